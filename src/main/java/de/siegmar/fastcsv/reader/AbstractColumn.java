@@ -0,0 +1,548 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The values of a single column of a columnar {@link CsvContainer}.
+ *
+ * Without a given type, the type of a column is inferred from its values: a column is stored
+ * as numbers only as long as all its (non-empty) values are in the canonical notation of Java
+ * (e.g. "42" or "1.5" but not "042" or "1.50") - thus every value is restored exactly.
+ * Otherwise the column is converted to text.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+abstract class AbstractColumn {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Maximum number of digits of an integer that surely fits into a long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private int size;
+
+    /**
+     * Creates an empty column.
+     *
+     * @param type the type of the column or {@code null} to infer the type
+     * @return the new column
+     */
+    static AbstractColumn of(final ColumnType type) {
+        return type != null ? create(type, false) : create(ColumnType.INT, true);
+    }
+
+    private static AbstractColumn create(final ColumnType type, final boolean inferred) {
+        final AbstractColumn column;
+        switch (type) {
+            case INT:
+                column = new IntColumn(inferred);
+                break;
+            case LONG:
+                column = new LongColumn(inferred);
+                break;
+            case DOUBLE:
+                column = new DoubleColumn(inferred);
+                break;
+            default:
+                column = new DictionaryColumn();
+        }
+        return column;
+    }
+
+    /**
+     * Appends a value to this column.
+     *
+     * @param buf the buffer containing the value
+     * @param offset the position of the value within the buffer
+     * @param length the length of the value
+     * @return the column to use from now on - either this column or a converted one
+     * @throws NumberFormatException if the value doesn't match the given type of this column
+     */
+    abstract AbstractColumn add(char[] buf, int offset, int length);
+
+    /**
+     * @param row the index of the row
+     * @return the value of the given row
+     */
+    abstract String get(int row);
+
+    /**
+     * Releases all memory not needed for accessing the values - no more values can be added
+     * afterwards.
+     */
+    abstract void trim();
+
+    int size() {
+        return size;
+    }
+
+    int nextRow() {
+        return size++;
+    }
+
+    static int newCapacity(final int capacity, final int minCapacity) {
+        return Math.max(capacity * 2, minCapacity);
+    }
+
+    /**
+     * Determines the type of a value in the canonical notation of Java.
+     *
+     * @return the type or {@code null} if the value is empty
+     */
+    static ColumnType classify(final char[] buf, final int offset, final int length) {
+        if (length == 0) {
+            return null;
+        }
+        if (isCanonicalInteger(buf, offset, length)) {
+            final long value = FieldParser.parseLong(buf, offset, length);
+            return value == (int) value ? ColumnType.INT : ColumnType.LONG;
+        }
+        return isCanonicalDouble(buf, offset, length) ? ColumnType.DOUBLE : ColumnType.STRING;
+    }
+
+    private static boolean isCanonicalInteger(final char[] buf, final int offset,
+                                              final int length) {
+        final int end = offset + length;
+        final int start = buf[offset] == '-' ? offset + 1 : offset;
+        final int digits = end - start;
+        final boolean leadingZero = buf[start < end ? start : offset] == '0';
+
+        // "0" is the only integer starting with zero ("-0" isn't canonical)
+        boolean canonical = digits > 0 && digits <= MAX_LONG_DIGITS;
+        canonical &= !leadingZero || digits == 1 && start == offset;
+        for (int i = start; canonical && i < end; i++) {
+            canonical = buf[i] >= '0' && buf[i] <= '9';
+        }
+        return canonical;
+    }
+
+    private static boolean isCanonicalDouble(final char[] buf, final int offset,
+                                             final int length) {
+        boolean dot = false;
+        for (int i = offset; i < offset + length; i++) {
+            final char c = buf[i];
+            if (c == '.') {
+                dot = true;
+            } else if ((c < '0' || c > '9') && c != '-' && c != 'E') {
+                return false;
+            }
+        }
+
+        try {
+            return dot && Double.toString(FieldParser.parseDouble(buf, offset, length))
+                .contentEquals(new CharArraySequence(buf, offset, length));
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * AbstractColumn of numbers - empty values are tracked separately.
+     */
+    private abstract static class AbstractNumberColumn extends AbstractColumn {
+
+        private final boolean inferred;
+        private final BitSet empty = new BitSet();
+        private int nonEmpty;
+
+        AbstractNumberColumn(final boolean inferred) {
+            this.inferred = inferred;
+        }
+
+        @Override
+        AbstractColumn add(final char[] buf, final int offset, final int length) {
+            if (length == 0) {
+                final int row = nextRow();
+                ensureCapacity(row + 1);
+                empty.set(row);
+                return this;
+            }
+
+            if (inferred) {
+                final ColumnType type = classify(buf, offset, length);
+                final ColumnType widened = widen(getType(), type);
+
+                // a column without values can be of any type
+                final ColumnType target = nonEmpty == 0 && widened == ColumnType.STRING
+                    ? type : widened;
+                if (target != getType()) {
+                    return convert(target).add(buf, offset, length);
+                }
+            }
+
+            final int row = nextRow();
+            ensureCapacity(row + 1);
+            set(row, buf, offset, length);
+            nonEmpty++;
+            return this;
+        }
+
+        private static ColumnType widen(final ColumnType current, final ColumnType type) {
+            if (current == type) {
+                return current;
+            }
+            final boolean integers = current != ColumnType.DOUBLE && type != ColumnType.DOUBLE;
+            return integers && type != ColumnType.STRING ? ColumnType.LONG : ColumnType.STRING;
+        }
+
+        private AbstractColumn convert(final ColumnType type) {
+            AbstractColumn column = create(type, true);
+            for (int row = 0; row < size(); row++) {
+                final String value = get(row);
+                column = column.add(value.toCharArray(), 0, value.length());
+            }
+            return column;
+        }
+
+        @Override
+        String get(final int row) {
+            return empty.get(row) ? "" : format(row);
+        }
+
+        abstract ColumnType getType();
+
+        abstract void ensureCapacity(int capacity);
+
+        abstract void set(int row, char[] buf, int offset, int length);
+
+        abstract String format(int row);
+
+    }
+
+    private static final class IntColumn extends AbstractNumberColumn {
+
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        IntColumn(final boolean inferred) {
+            super(inferred);
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.INT;
+        }
+
+        @Override
+        void ensureCapacity(final int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, capacity));
+            }
+        }
+
+        @Override
+        void set(final int row, final char[] buf, final int offset, final int length) {
+            values[row] = FieldParser.parseInt(buf, offset, length);
+        }
+
+        @Override
+        String format(final int row) {
+            return Integer.toString(values[row]);
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, size());
+        }
+
+    }
+
+    private static final class LongColumn extends AbstractNumberColumn {
+
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        LongColumn(final boolean inferred) {
+            super(inferred);
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.LONG;
+        }
+
+        @Override
+        void ensureCapacity(final int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, capacity));
+            }
+        }
+
+        @Override
+        void set(final int row, final char[] buf, final int offset, final int length) {
+            values[row] = FieldParser.parseLong(buf, offset, length);
+        }
+
+        @Override
+        String format(final int row) {
+            return Long.toString(values[row]);
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, size());
+        }
+
+    }
+
+    private static final class DoubleColumn extends AbstractNumberColumn {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        DoubleColumn(final boolean inferred) {
+            super(inferred);
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.DOUBLE;
+        }
+
+        @Override
+        void ensureCapacity(final int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, capacity));
+            }
+        }
+
+        @Override
+        void set(final int row, final char[] buf, final int offset, final int length) {
+            values[row] = FieldParser.parseDouble(buf, offset, length);
+        }
+
+        @Override
+        String format(final int row) {
+            return Double.toString(values[row]);
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, size());
+        }
+
+    }
+
+    /**
+     * AbstractColumn of text - every distinct value is stored only once.
+     */
+    private static final class DictionaryColumn extends AbstractColumn {
+
+        /**
+         * Columns with more distinct values are converted to {@link TextColumn}.
+         */
+        private static final int MAX_DICTIONARY_SIZE = 64 * 1024;
+
+        private static final int INITIAL_SLOTS = 64;
+        private static final int HASH_MULTIPLIER = 31;
+
+        private final List<String> dictionary = new ArrayList<>();
+
+        /**
+         * Hash table (open addressing) of the codes + 1 (0 marks a free slot) - allows looking
+         * up a value by its characters without creating a String.
+         */
+        private int[] slots = new int[INITIAL_SLOTS];
+
+        /**
+         * The hash of each value by its code.
+         */
+        private int[] hashes = new int[INITIAL_CAPACITY];
+
+        private int[] codes = new int[INITIAL_CAPACITY];
+
+        @Override
+        AbstractColumn add(final char[] buf, final int offset, final int length) {
+            final int hash = hash(buf, offset, length);
+            final int slot = findSlot(hash, buf, offset, length);
+            int code = slots[slot] - 1;
+            if (code == -1) {
+                if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                    return toText().add(buf, offset, length);
+                }
+                code = addValue(slot, hash, new String(buf, offset, length));
+            }
+
+            final int row = nextRow();
+            if (row == codes.length) {
+                codes = Arrays.copyOf(codes, newCapacity(codes.length, row + 1));
+            }
+            codes[row] = code;
+            return this;
+        }
+
+        private static int hash(final char[] buf, final int offset, final int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = HASH_MULTIPLIER * hash + buf[i];
+            }
+            return hash;
+        }
+
+        /**
+         * @return the slot of the given value or the free slot to add it
+         */
+        private int findSlot(final int hash, final char[] buf, final int offset,
+                             final int length) {
+            final int mask = slots.length - 1;
+            int slot = hash & mask;
+            while (slots[slot] != 0 && !matches(slots[slot] - 1, hash, buf, offset, length)) {
+                slot = slot + 1 & mask;
+            }
+            return slot;
+        }
+
+        private boolean matches(final int code, final int hash, final char[] buf,
+                                final int offset, final int length) {
+            final String value = dictionary.get(code);
+            if (hashes[code] != hash || value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != buf[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int addValue(final int slot, final int hash, final String value) {
+            final int code = dictionary.size();
+            dictionary.add(value);
+            if (code == hashes.length) {
+                hashes = Arrays.copyOf(hashes, newCapacity(hashes.length, code + 1));
+            }
+            hashes[code] = hash;
+            slots[slot] = code + 1;
+
+            // keep the load factor below 0.5
+            if (dictionary.size() * 2 > slots.length) {
+                rehash();
+            }
+            return code;
+        }
+
+        private void rehash() {
+            slots = new int[slots.length * 2];
+            final int mask = slots.length - 1;
+            for (int code = 0; code < dictionary.size(); code++) {
+                int slot = hashes[code] & mask;
+                while (slots[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                slots[slot] = code + 1;
+            }
+        }
+
+        private AbstractColumn toText() {
+            AbstractColumn column = new TextColumn();
+            for (int row = 0; row < size(); row++) {
+                final String value = get(row);
+                column = column.add(value.toCharArray(), 0, value.length());
+            }
+            return column;
+        }
+
+        @Override
+        String get(final int row) {
+            return dictionary.get(codes[row]);
+        }
+
+        @Override
+        void trim() {
+            codes = Arrays.copyOf(codes, size());
+            slots = null;
+            hashes = null;
+        }
+
+    }
+
+    /**
+     * AbstractColumn of text - the characters of all values are stored in pages of char arrays.
+     */
+    private static final class TextColumn extends AbstractColumn {
+
+        private static final int PAGE_SIZE = 1024 * 1024;
+
+        private char[][] pages = new char[INITIAL_CAPACITY][];
+        private int[] pageFirstRows = new int[INITIAL_CAPACITY];
+        private int pageCount;
+        private char[] page;
+        private int pagePos;
+
+        /**
+         * The end offset of each value within its page.
+         */
+        private int[] ends = new int[INITIAL_CAPACITY];
+
+        @Override
+        AbstractColumn add(final char[] buf, final int offset, final int length) {
+            final int row = nextRow();
+            if (page == null || pagePos + length > page.length) {
+                newPage(row, length);
+            }
+            System.arraycopy(buf, offset, page, pagePos, length);
+            pagePos += length;
+
+            if (row == ends.length) {
+                ends = Arrays.copyOf(ends, newCapacity(ends.length, row + 1));
+            }
+            ends[row] = pagePos;
+            return this;
+        }
+
+        private void newPage(final int firstRow, final int minSize) {
+            if (pageCount == pages.length) {
+                pages = Arrays.copyOf(pages, pageCount * 2);
+                pageFirstRows = Arrays.copyOf(pageFirstRows, pageCount * 2);
+            }
+            page = new char[Math.max(PAGE_SIZE, minSize)];
+            pagePos = 0;
+            pages[pageCount] = page;
+            pageFirstRows[pageCount++] = firstRow;
+        }
+
+        @Override
+        String get(final int row) {
+            int pageIdx = Arrays.binarySearch(pageFirstRows, 0, pageCount, row);
+            if (pageIdx < 0) {
+                pageIdx = -pageIdx - 2;
+            }
+            final int start = row == pageFirstRows[pageIdx] ? 0 : ends[row - 1];
+            return new String(pages[pageIdx], start, ends[row] - start);
+        }
+
+        @Override
+        void trim() {
+            if (page != null) {
+                pages[pageCount - 1] = Arrays.copyOf(page, pagePos);
+                page = null;
+            }
+            pages = Arrays.copyOf(pages, pageCount);
+            pageFirstRows = Arrays.copyOf(pageFirstRows, pageCount);
+            ends = Arrays.copyOf(ends, size());
+        }
+
+    }
+
+}
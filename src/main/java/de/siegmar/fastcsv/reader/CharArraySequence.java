@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+/**
+ * CharSequence view of a range of a char array - without copying the characters.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class CharArraySequence implements CharSequence {
+
+    private final char[] buf;
+    private final int offset;
+    private final int length;
+
+    CharArraySequence(final char[] buf, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > buf.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length
+                + ", buffer length: " + buf.length);
+        }
+        this.buf = buf;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+        }
+        return buf[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end
+                + ", length: " + length);
+        }
+        return new CharArraySequence(buf, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, offset, length);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Selection of the columns to read - either by index or by header name.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class ColumnSelection {
+
+    private final int[] indexes;
+    private final String[] names;
+
+    private ColumnSelection(final int[] indexes, final String[] names) {
+        this.indexes = indexes;
+        this.names = names;
+    }
+
+    static ColumnSelection ofIndexes(final int... columnIndexes) {
+        for (final int index : columnIndexes) {
+            if (index < 0) {
+                throw new IllegalArgumentException("column indexes must be >= 0");
+            }
+        }
+        return new ColumnSelection(sortDistinct(columnIndexes.clone()), null);
+    }
+
+    static ColumnSelection ofNames(final String... columnNames) {
+        for (final String name : columnNames) {
+            if (name == null) {
+                throw new NullPointerException("column names must not be null");
+            }
+        }
+        return new ColumnSelection(null, columnNames.clone());
+    }
+
+    /**
+     * @return {@code true} if the columns are selected by header name
+     */
+    boolean isByName() {
+        return names != null;
+    }
+
+    /**
+     * Resolves the selected columns to their indexes.
+     *
+     * @param header the header fields - only required if columns are selected by name
+     * @return the indexes of the selected columns in ascending order
+     * @throws IOException if the header doesn't contain a selected column
+     */
+    int[] resolve(final List<String> header) throws IOException {
+        if (names == null) {
+            return indexes;
+        }
+
+        final int[] resolved = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            resolved[i] = header.indexOf(names[i]);
+            if (resolved[i] == -1) {
+                throw new IOException("Header does not contain column: " + names[i]);
+            }
+        }
+        return sortDistinct(resolved);
+    }
+
+    /**
+     * Sorts the given values and removes duplicates.
+     *
+     * @param values the values - sorted in place
+     * @return the distinct values in ascending order
+     */
+    static int[] sortDistinct(final int[] values) {
+        Arrays.sort(values);
+        int len = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[len++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, len);
+    }
+
+    /**
+     * Reduces the given header to the selected columns.
+     *
+     * @param header the header fields
+     * @return the header fields of the selected columns
+     * @throws IOException if the header doesn't contain a selected column
+     */
+    List<String> project(final List<String> header) throws IOException {
+        final int[] columns = resolve(header);
+        final List<String> projected = new ArrayList<>(columns.length);
+        for (final int column : columns) {
+            if (column < header.size()) {
+                projected.add(header.get(column));
+            }
+        }
+        return projected;
+    }
+
+}
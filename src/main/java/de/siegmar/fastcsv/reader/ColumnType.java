@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+/**
+ * The type a column is stored as by a columnar {@link CsvContainer}.
+ *
+ * @author Oliver Siegmar
+ * @see CsvReader#setColumnar(boolean)
+ * @see CsvReader#setColumnTypes(ColumnType...)
+ */
+public enum ColumnType {
+
+    /**
+     * Values are stored as text (dictionary encoded for columns with few distinct values).
+     */
+    STRING,
+
+    /**
+     * Values are stored as {@code int}.
+     */
+    INT,
+
+    /**
+     * Values are stored as {@code long}.
+     */
+    LONG,
+
+    /**
+     * Values are stored as {@code double}.
+     */
+    DOUBLE
+
+}
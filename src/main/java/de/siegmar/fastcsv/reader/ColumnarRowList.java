@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * List of rows that stores its data column by column (see {@link AbstractColumn}) - rows are
+ * created as views on access.
+ *
+ * The list is filled by passing it as {@link CsvHandler} to a {@link CsvParser} - see
+ * {@link #read(CsvParser, ColumnType[], boolean)}.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class ColumnarRowList extends AbstractList<CsvRow> implements RandomAccess, CsvHandler {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final char[] EMPTY = new char[0];
+
+    private final ColumnType[] columnTypes;
+    private AbstractColumn[] columns = new AbstractColumn[0];
+    private Map<String, Integer> headerMap;
+    private int rowCount;
+    private int fieldIdx;
+
+    private long[] lineNumbers = new long[INITIAL_CAPACITY];
+
+    /**
+     * The field count of all rows - or -1 if rows have different field counts.
+     */
+    private int commonFieldCount = -1;
+
+    /**
+     * The field count of each row - only if rows have different field counts.
+     */
+    private int[] fieldCounts;
+
+    /**
+     * @param columnTypes the types of the columns (by index) - {@code null} to infer the types
+     */
+    ColumnarRowList(final ColumnType[] columnTypes) {
+        this.columnTypes = columnTypes != null ? columnTypes : new ColumnType[0];
+    }
+
+    /**
+     * Reads all rows of the given parser into a columnar container.
+     *
+     * @param csvParser the parser to read from
+     * @param columnTypes the types of the columns (by index) - {@code null} to infer the types
+     * @param containsHeader {@code true} if the data contains a header
+     * @return the container
+     * @throws IOException if an I/O error occurs or a value doesn't match its column type
+     */
+    static CsvContainer read(final CsvParser csvParser, final ColumnType[] columnTypes,
+                             final boolean containsHeader) throws IOException {
+        final ColumnarRowList rows = new ColumnarRowList(columnTypes);
+        try {
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = csvParser.nextRow(rows);
+            }
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("Line %d has a value that doesn't match its "
+                + "column type: %s", csvParser.getLineNo() + 1, e.getMessage()), e);
+        }
+
+        rows.complete(csvParser.getHeaderMap());
+        return new CsvContainer(containsHeader ? csvParser.getHeader() : null, rows);
+    }
+
+    @Override
+    public void field(final char[] buf, final int offset, final int length,
+                      final boolean quoted) {
+        if (fieldIdx == columns.length) {
+            addColumn();
+        }
+        columns[fieldIdx] = columns[fieldIdx].add(buf, offset, length);
+        fieldIdx++;
+    }
+
+    private void addColumn() {
+        final int idx = columns.length;
+        columns = Arrays.copyOf(columns, idx + 1);
+        final ColumnType type = idx < columnTypes.length ? columnTypes[idx] : null;
+        AbstractColumn column = AbstractColumn.of(type);
+
+        // the column didn't exist in previous rows
+        for (int row = 0; row < rowCount; row++) {
+            column = column.add(EMPTY, 0, 0);
+        }
+        columns[idx] = column;
+    }
+
+    @Override
+    public void endRow(final long originalLineNumber) {
+        // fill up columns this row has no field for
+        for (int i = fieldIdx; i < columns.length; i++) {
+            columns[i] = columns[i].add(EMPTY, 0, 0);
+        }
+
+        if (rowCount == lineNumbers.length) {
+            lineNumbers = Arrays.copyOf(lineNumbers, rowCount * 2);
+        }
+        lineNumbers[rowCount] = originalLineNumber;
+        setFieldCount(rowCount++, fieldIdx);
+        fieldIdx = 0;
+    }
+
+    private void setFieldCount(final int row, final int fieldCount) {
+        if (row == 0) {
+            commonFieldCount = fieldCount;
+        } else if (fieldCounts == null && fieldCount != commonFieldCount) {
+            fieldCounts = new int[lineNumbers.length];
+            Arrays.fill(fieldCounts, 0, row, commonFieldCount);
+            commonFieldCount = -1;
+        }
+
+        if (fieldCounts != null) {
+            if (row == fieldCounts.length) {
+                fieldCounts = Arrays.copyOf(fieldCounts, lineNumbers.length);
+            }
+            fieldCounts[row] = fieldCount;
+        }
+    }
+
+    /**
+     * Completes reading - releases all memory only needed for adding rows.
+     *
+     * @param header the header map for the rows (or {@code null})
+     */
+    void complete(final Map<String, Integer> header) {
+        headerMap = header;
+        lineNumbers = Arrays.copyOf(lineNumbers, rowCount);
+        if (fieldCounts != null) {
+            fieldCounts = Arrays.copyOf(fieldCounts, rowCount);
+        }
+        for (final AbstractColumn column : columns) {
+            column.trim();
+        }
+    }
+
+    @Override
+    public CsvRow get(final int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+        }
+        final int fieldCount = fieldCounts != null ? fieldCounts[index] : commonFieldCount;
+        return new CsvRow(lineNumbers[index], headerMap, new RowFields(index, fieldCount));
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * View of the fields of a single row.
+     */
+    private final class RowFields extends AbstractList<String> implements RandomAccess {
+
+        private final int row;
+        private final int fieldCount;
+
+        RowFields(final int row, final int fieldCount) {
+            this.row = row;
+            this.fieldCount = fieldCount;
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= fieldCount) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + fieldCount);
+            }
+            return columns[index].get(row);
+        }
+
+        @Override
+        public int size() {
+            return fieldCount;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The state of a {@link CsvParser} between two rows - used for resuming parsing (e.g. after a
+ * restart) via {@link CsvReader#parse(java.io.Reader, CsvCheckpoint)} or
+ * {@link CsvReader#parse(java.nio.file.Path, java.nio.charset.Charset, CsvCheckpoint)}.
+ *
+ * A checkpoint is only valid for the same data and the same settings of the
+ * {@link CsvReader} it was created with.
+ *
+ * @author Oliver Siegmar
+ * @see CsvParser#getCheckpoint()
+ */
+public final class CsvCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long offset;
+    private final long byteOffset;
+    private final boolean afterCarriageReturn;
+    private final long lineNumber;
+    private final String[] header;
+    private final int fieldCount;
+
+    CsvCheckpoint(final long offset, final long byteOffset, final boolean afterCarriageReturn,
+                  final long lineNumber, final List<String> header, final int fieldCount) {
+        this.offset = offset;
+        this.byteOffset = byteOffset;
+        this.afterCarriageReturn = afterCarriageReturn;
+        this.lineNumber = lineNumber;
+        this.header = header != null ? header.toArray(new String[header.size()]) : null;
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Returns the number of characters (not bytes) read before this checkpoint. Resuming
+     * parsing from a Reader requires the Reader to be positioned at this offset.
+     *
+     * @return the character offset or -1 if unknown (e.g. for parsers created by
+     * {@link CsvReader#parseFromRow(java.nio.file.Path, java.nio.charset.Charset, long)} for
+     * UTF-8 encoded data)
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of bytes read before this checkpoint - used to seek directly to the
+     * checkpoint when resuming parsing of a file. The byte offset is only known for UTF-8,
+     * US-ASCII and ISO-8859-1 encoded data read from a file or an InputStream.
+     *
+     * @return the byte offset or -1 if unknown (also if UTF-8 encoded data contained malformed
+     * input)
+     */
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    /**
+     * Returns the number of lines read before this checkpoint - the next row starts at a line
+     * number greater than this.
+     *
+     * @return the number of lines
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the header fields (of all columns) read before this checkpoint.
+     *
+     * @return the header fields or {@code null} if no header was read
+     */
+    public List<String> getHeader() {
+        return header != null ? Collections.unmodifiableList(Arrays.asList(header)) : null;
+    }
+
+    /**
+     * @return {@code true} if the data before this checkpoint ends with a CR
+     */
+    boolean isAfterCarriageReturn() {
+        return afterCarriageReturn;
+    }
+
+    /**
+     * @return the field count of the first row - or -1
+     */
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvCheckpoint{offset=" + offset + ", byteOffset=" + byteOffset
+            + ", lineNumber=" + lineNumber + '}';
+    }
+
+}
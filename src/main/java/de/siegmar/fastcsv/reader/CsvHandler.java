@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+/**
+ * Callback interface for reading CSV data without creating any objects per field or row.
+ *
+ * The character array passed to {@link #field(char[], int, int, boolean)} is a view into an
+ * internal buffer of the parser. It is only valid during the invocation and must not be
+ * modified - copy the characters (e.g. via {@code new String(buf, offset, length)}) if they
+ * are needed later on.
+ *
+ * @author Oliver Siegmar
+ * @see CsvParser#nextRow(CsvHandler)
+ * @see CsvReader#read(java.io.Reader, CsvHandler)
+ */
+public interface CsvHandler {
+
+    /**
+     * Called for every field of a row.
+     *
+     * @param buf the buffer containing the field's characters
+     * @param offset the position of the field's first character within the buffer
+     * @param length the number of characters of the field
+     * @param quoted {@code true} if the field contains text enclosed by text delimiters
+     */
+    void field(char[] buf, int offset, int length, boolean quoted);
+
+    /**
+     * Called after the last field of a row.
+     *
+     * @param originalLineNumber the original line number (starting with 1) - on multi-line rows
+     *                           this is the starting line number
+     */
+    void endRow(long originalLineNumber);
+
+}
@@ -19,11 +19,13 @@ package de.siegmar.fastcsv.reader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class is responsible for parsing CSV data from the passed-in Reader.
@@ -36,20 +38,32 @@ public final class CsvParser implements Closeable {
     private final boolean containsHeader;
     private final boolean skipEmptyRows;
     private final boolean errorOnDifferentFieldCount;
+    private final boolean reuseRows;
 
     private Map<String, Integer> headerMap;
     private List<String> headerList;
+    private List<String> headerFields;
     private long lineNo;
+    private boolean offsetsAvailable = true;
+    private long byteOffset;
     private int firstLineFieldCount = -1;
+    private HandlerAdapter handlerAdapter;
+    private ColumnSelection columnSelection;
+    private CsvRow reusableRow;
+    private int[] selectedColumns;
+    private boolean lazyFields;
+    private RowFilter rowFilter;
+    private RowFilter boundRowFilter;
 
     CsvParser(final Reader reader, final char fieldSeparator, final char textDelimiter,
               final boolean containsHeader, final boolean skipEmptyRows,
-              final boolean errorOnDifferentFieldCount) {
+              final boolean errorOnDifferentFieldCount, final boolean reuseRows) {
 
         rowReader = new RowReader(reader, fieldSeparator, textDelimiter);
         this.containsHeader = containsHeader;
         this.skipEmptyRows = skipEmptyRows;
         this.errorOnDifferentFieldCount = errorOnDifferentFieldCount;
+        this.reuseRows = reuseRows;
     }
 
     /**
@@ -83,47 +97,410 @@ public final class CsvParser implements Closeable {
         while (!rowReader.isFinished()) {
             final long startingLineNo = lineNo + 1;
             final RowReader.Line line = rowReader.readLine();
-            final String[] currentFields = line.getFields();
+            if (rowReader.isSuspended()) {
+                // more data is needed (push parsing)
+                break;
+            }
+            final int fieldCount = line.getFieldCount();
             lineNo += line.getLines();
 
-            final int fieldCount = currentFields.length;
-
             // reached end of data in a new line?
             if (fieldCount == 0) {
                 break;
             }
 
             // skip empty rows
-            if (skipEmptyRows && fieldCount == 1 && currentFields[0].isEmpty()) {
+            if (skipEmptyRows && line.isEmptyRow()) {
                 continue;
             }
 
             // check the field count consistency on every row
-            if (errorOnDifferentFieldCount) {
-                if (firstLineFieldCount == -1) {
-                    firstLineFieldCount = fieldCount;
-                } else if (fieldCount != firstLineFieldCount) {
-                    throw new IOException(
-                        String.format("Line %d has %d fields, but first line has %d fields",
-                        lineNo, fieldCount, firstLineFieldCount));
-                }
-            }
-
-            final List<String> fieldList = Arrays.asList(currentFields);
+            checkFieldCount(fieldCount);
 
             // initialize header
             if (containsHeader && headerList == null) {
-                initHeader(fieldList);
+                initHeader(Arrays.asList(line.getFields()));
                 continue;
             }
 
-            return new CsvRow(startingLineNo, headerMap, fieldList);
+            // skip rows rejected by the filter - before any field is materialized
+            if (rowFilter != null && !accept(line)) {
+                continue;
+            }
+
+            if (reuseRows) {
+                return reuseRow(startingLineNo, line);
+            }
+
+            return new CsvRow(startingLineNo, getRowStart(), headerMap, copyFields(line));
         }
 
         return null;
     }
 
-    private void initHeader(final List<String> currentFields) {
+    /**
+     * Reads a complete row (that might be made up of multiple lines in the underlying CSV file)
+     * and passes its fields to the given handler without creating any objects.
+     *
+     * If header parsing is enabled, the header is read before the first row and is not passed
+     * to the handler. Empty rows are skipped according to
+     * {@link CsvReader#setSkipEmptyRows(boolean)}.
+     *
+     * @param handler the handler to pass the fields of the row to
+     * @return {@code false} if end of file reached
+     * @throws IOException if an error occurred while reading data
+     */
+    public boolean nextRow(final CsvHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "handler must not be null");
+        if (handlerAdapter == null) {
+            handlerAdapter = new HandlerAdapter();
+        }
+        final HandlerAdapter adapter = handlerAdapter;
+
+        while (!rowReader.isFinished()) {
+            final long startingLineNo = lineNo + 1;
+            final boolean readHeader = containsHeader && headerList == null;
+            if (!rowReader.isSuspended()) {
+                adapter.reset(handler, readHeader);
+            }
+            final int lines = rowReader.readLine(adapter);
+            if (rowReader.isSuspended()) {
+                return false;
+            }
+            lineNo += lines;
+
+            final int fieldCount = adapter.fieldCount;
+
+            // reached end of data in a new line?
+            if (fieldCount == 0) {
+                break;
+            }
+
+            // skip empty rows
+            if (adapter.isEmptyRow() && skipEmptyRows) {
+                continue;
+            }
+            adapter.flushEmptyField();
+
+            // check the field count consistency on every row
+            checkFieldCount(fieldCount);
+
+            // initialize header
+            if (readHeader) {
+                initHeader(adapter.header);
+                continue;
+            }
+
+            handler.endRow(startingLineNo);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips the given number of rows without creating any objects. Only the quote state and the
+     * line breaks are tracked, which is considerably faster than reading the rows. The header
+     * (if any) is read before. Empty rows are skipped according to
+     * {@link CsvReader#setSkipEmptyRows(boolean)} and are not counted. A row filter (see
+     * {@link #setRowFilter(RowFilter)}) doesn't apply - every row is counted.
+     *
+     * @param count the number of rows to skip
+     * @return the number of rows actually skipped - less than {@code count} if end of file
+     * reached
+     * @throws IOException if an error occurred while reading data
+     */
+    public long skipRows(final long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+
+        long skipped = 0;
+
+        // the header is needed for the subsequent rows
+        if (count > 0 && containsHeader && headerList == null) {
+            if (!nextRow(RowIndex.SKIPPING_HANDLER)) {
+                return 0;
+            }
+            skipped++;
+        }
+
+        while (skipped < count && !rowReader.isFinished()) {
+            final int fieldCount = rowReader.skipLine();
+            lineNo += rowReader.getSkippedLines();
+
+            // reached end of data in a new line?
+            if (fieldCount == 0) {
+                break;
+            }
+
+            if (skipEmptyRows && rowReader.isSkippedRowEmpty()) {
+                continue;
+            }
+
+            checkFieldCount(fieldCount);
+            skipped++;
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Skips all rows that begin before the given line - like {@link #skipRows(long)}. The
+     * first row read afterwards is the first row that begins at or after the given line.
+     *
+     * @param lineNumber the line number (starting with 1)
+     * @throws IOException if an error occurred while reading data
+     */
+    void skipToLine(final long lineNumber) throws IOException {
+        if (containsHeader && headerList == null) {
+            readHeader();
+        }
+
+        // every skipped line (even an empty one) begins at the line following the previous one
+        while (lineNo + 1 < lineNumber && !rowReader.isFinished()) {
+            final int fieldCount = rowReader.skipLine();
+            lineNo += rowReader.getSkippedLines();
+            if (fieldCount == 0) {
+                break;
+            }
+            if (!skipEmptyRows || !rowReader.isSkippedRowEmpty()) {
+                checkFieldCount(fieldCount);
+            }
+        }
+    }
+
+    /**
+     * Reads the header - without reading the subsequent row.
+     */
+    private void readHeader() throws IOException {
+        while (headerList == null && !rowReader.isFinished()) {
+            final RowReader.Line line = rowReader.readLine();
+            lineNo += line.getLines();
+            final int fieldCount = line.getFieldCount();
+            if (fieldCount == 0) {
+                break;
+            }
+            if (!skipEmptyRows || !line.isEmptyRow()) {
+                checkFieldCount(fieldCount);
+                initHeader(Arrays.asList(line.getFields()));
+            }
+        }
+    }
+
+    private boolean accept(final RowReader.Line line) throws IOException {
+        if (boundRowFilter == null) {
+            boundRowFilter = rowFilter.bind(headerMap, selectedColumns);
+        }
+        return boundRowFilter.accept(line);
+    }
+
+    private List<String> copyFields(final RowReader.Line line) {
+        // the filter only needs lazy fields internally
+        return rowFilter != null && !lazyFields
+            ? Arrays.asList(line.getFields()) : line.copyFields();
+    }
+
+    private void checkFieldCount(final int fieldCount) throws IOException {
+        if (errorOnDifferentFieldCount) {
+            if (firstLineFieldCount == -1) {
+                firstLineFieldCount = fieldCount;
+            } else if (fieldCount != firstLineFieldCount) {
+                throw new IOException(
+                    String.format("Line %d has %d fields, but first line has %d fields",
+                    lineNo, fieldCount, firstLineFieldCount));
+            }
+        }
+    }
+
+    private CsvRow reuseRow(final long startingLineNo, final RowReader.Line line) {
+        final List<String> fieldView = line.getFieldView();
+        if (reusableRow == null) {
+            reusableRow = new CsvRow(startingLineNo, getRowStart(), headerMap, fieldView);
+        } else {
+            reusableRow.reset(startingLineNo, getRowStart(), headerMap);
+        }
+        return reusableRow;
+    }
+
+    private long getRowStart() {
+        return offsetsAvailable ? rowReader.getRowStart() : -1;
+    }
+
+    /**
+     * Returns a checkpoint of the current state of this parser - the position after the row
+     * read last (and its line number) as well as the header. Parsing can be resumed from this
+     * checkpoint on a fresh stream via {@link CsvReader#parse(Reader, CsvCheckpoint)} or
+     * {@link CsvReader#parse(java.nio.file.Path, java.nio.charset.Charset, CsvCheckpoint)}.
+     *
+     * @return the checkpoint of the current state
+     * @throws IllegalStateException if this parser knows neither its position within the
+     * character stream nor within the byte stream (e.g. parsers created by
+     * {@link CsvReader#parseFromRow(java.nio.file.Path, java.nio.charset.Charset, long)} for
+     * UTF-8 encoded data containing malformed input)
+     */
+    public CsvCheckpoint getCheckpoint() {
+        final long bytePosition = getBytePosition();
+        if (!offsetsAvailable && bytePosition == -1) {
+            throw new IllegalStateException("Position within the data is unknown");
+        }
+        return new CsvCheckpoint(offsetsAvailable ? rowReader.getPosition() : -1, bytePosition,
+            rowReader.isAfterCarriageReturn(), lineNo, headerFields, firstLineFieldCount);
+    }
+
+    private long getBytePosition() {
+        final long position = byteOffset != -1 ? rowReader.getBytePosition() : -1;
+        return position != -1 ? byteOffset + position : -1;
+    }
+
+    /**
+     * Initializes the state of this parser for data that doesn't start at the beginning of a
+     * CSV file.
+     *
+     * @param header the header fields of the file - or {@code null}
+     * @param linesBefore the number of lines before the data
+     * @param fieldCount the field count of the first line - or -1
+     * @param offset the number of characters before the data - or -1 if unknown
+     * @param bytesBefore the number of bytes before the data - or -1 if unknown
+     * @param afterCarriageReturn {@code true} if the data before ended with a CR (a leading
+     *                            LF then belongs to that line break)
+     * @throws IOException if the header doesn't contain a selected column
+     */
+    void initState(final List<String> header, final long linesBefore, final int fieldCount,
+                   final long offset, final long bytesBefore,
+                   final boolean afterCarriageReturn) throws IOException {
+        if (header != null) {
+            initHeader(header);
+        }
+        lineNo = linesBefore;
+        firstLineFieldCount = fieldCount;
+        offsetsAvailable = offset != -1;
+        byteOffset = bytesBefore;
+        rowReader.resume(Math.max(offset, 0), afterCarriageReturn);
+    }
+
+    /**
+     * Initializes the state of this parser for data that continues at the given checkpoint.
+     *
+     * @param checkpoint the checkpoint to resume at
+     * @param bytesBefore the number of bytes before the data of the reader - or -1 if unknown
+     * @throws IOException if the header doesn't contain a selected column
+     */
+    void resume(final CsvCheckpoint checkpoint, final long bytesBefore) throws IOException {
+        initState(checkpoint.getHeader(), checkpoint.getLineNumber(),
+            checkpoint.getFieldCount(), checkpoint.getOffset(), bytesBefore,
+            checkpoint.isAfterCarriageReturn());
+    }
+
+    /**
+     * @return the column indexes by header name - or {@code null} if no header was read
+     */
+    Map<String, Integer> getHeaderMap() {
+        return headerMap;
+    }
+
+    /**
+     * @return the number of lines read so far
+     */
+    long getLineNo() {
+        return lineNo;
+    }
+
+    /**
+     * @return {@code true} if a single row instance is returned for all rows
+     */
+    boolean isReuseRows() {
+        return reuseRows;
+    }
+
+    /**
+     * Restricts the fields read to the given columns. If a header is read, the selection applies
+     * to all rows after the header.
+     *
+     * @param selection the columns to read
+     * @throws IllegalStateException if columns are selected by name without a header
+     */
+    void setColumnSelection(final ColumnSelection selection) throws IOException {
+        columnSelection = selection;
+        if (!containsHeader) {
+            if (selection.isByName()) {
+                throw new IllegalStateException("Columns can only be selected by name if the "
+                    + "data contains a header");
+            }
+            setSelectedColumns(selection.resolve(null));
+        }
+    }
+
+    /**
+     * Deduplicates the values of the given columns via bounded caches (one per column).
+     *
+     * @param columns the indexes of the columns in ascending order
+     * @param cacheSize the maximum number of cached values per column
+     */
+    void setCachedColumns(final int[] columns, final int cacheSize) {
+        final StringCache[] caches = new StringCache[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            caches[i] = new StringCache(cacheSize);
+        }
+        rowReader.setStringCaches(columns, caches);
+    }
+
+    /**
+     * Reads rows via a structural index of the read buffer - if supported for the field
+     * separator and text delimiter.
+     *
+     * @param structuralIndexing {@code true} for reading rows via a structural index
+     */
+    void setStructuralIndexing(final boolean structuralIndexing) {
+        rowReader.setStructuralIndexing(structuralIndexing);
+    }
+
+    /**
+     * Creates the Strings of fields only when they're accessed.
+     *
+     * @param lazyFields {@code true} for lazy materialization
+     */
+    void setLazyFields(final boolean lazyFields) {
+        this.lazyFields = lazyFields;
+        updateLazyFields();
+    }
+
+    /**
+     * Skips all rows that are rejected by the given filter. The filter is evaluated on the
+     * characters of the fields - the Strings of a row (and the {@link CsvRow} itself) are only
+     * created for accepted rows. The header is never filtered.
+     * <p>
+     * The filter only applies to {@link #nextRow()} - not to {@link #nextRow(CsvHandler)}.
+     * Columns are resolved when the first row after the header is read.
+     *
+     * @param filter the filter to apply or {@code null} to read all rows
+     */
+    public void setRowFilter(final RowFilter filter) {
+        rowFilter = filter;
+        boundRowFilter = null;
+        updateLazyFields();
+    }
+
+    private void updateLazyFields() {
+        rowReader.setLazyFields(lazyFields || rowFilter != null);
+
+        // a reused row is bound to the field view of the previous mode
+        reusableRow = null;
+    }
+
+    private void setSelectedColumns(final int[] columns) {
+        selectedColumns = columns;
+        rowReader.setSelectedColumns(columns);
+    }
+
+    private void initHeader(final List<String> allFields) throws IOException {
+        headerFields = allFields;
+        List<String> currentFields = allFields;
+        if (columnSelection != null) {
+            setSelectedColumns(columnSelection.resolve(allFields));
+            currentFields = columnSelection.project(allFields);
+        }
+
         headerList = Collections.unmodifiableList(currentFields);
 
         final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(currentFields.size());
@@ -141,4 +518,71 @@ public final class CsvParser implements Closeable {
         rowReader.close();
     }
 
+    /**
+     * Passes fields from RowReader to a {@link CsvHandler} - or collects them as header. An empty
+     * first field is held back until it is clear that the row isn't empty.
+     */
+    private static final class HandlerAdapter implements RowReader.FieldSink {
+
+        private static final char[] EMPTY = new char[0];
+
+        private CsvHandler handler;
+        private List<String> header;
+        private int fieldCount;
+        private boolean emptyFirstField;
+        private boolean emptyFirstFieldQuoted;
+        private boolean pendingEmptyField;
+
+        void reset(final CsvHandler csvHandler, final boolean readHeader) {
+            handler = csvHandler;
+            header = readHeader ? new ArrayList<String>() : null;
+            fieldCount = 0;
+            emptyFirstField = false;
+            pendingEmptyField = false;
+        }
+
+        @Override
+        public void skippedField(final boolean empty) {
+            if (fieldCount == 0) {
+                emptyFirstField = empty;
+            }
+            fieldCount++;
+        }
+
+        @Override
+        public void field(final char[] buf, final int offset, final int length,
+                          final boolean quoted) {
+            if (fieldCount == 0 && length == 0) {
+                emptyFirstField = true;
+                emptyFirstFieldQuoted = quoted;
+                pendingEmptyField = true;
+            } else {
+                flushEmptyField();
+                pass(buf, offset, length, quoted);
+            }
+            fieldCount++;
+        }
+
+        boolean isEmptyRow() {
+            return fieldCount == 1 && emptyFirstField;
+        }
+
+        void flushEmptyField() {
+            if (pendingEmptyField) {
+                pendingEmptyField = false;
+                pass(EMPTY, 0, 0, emptyFirstFieldQuoted);
+            }
+        }
+
+        private void pass(final char[] buf, final int offset, final int length,
+                          final boolean quoted) {
+            if (header != null) {
+                header.add(new String(buf, offset, length));
+            } else {
+                handler.field(buf, offset, length, quoted);
+            }
+        }
+
+    }
+
 }
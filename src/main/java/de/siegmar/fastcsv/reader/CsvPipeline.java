@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Pipeline for reading a single (non-seekable) stream with multiple threads. The stages run
+ * in parallel:
+ *
+ * <ol>
+ * <li>a thread reads the data ahead,</li>
+ * <li>a thread decodes the data and tokenizes it into rows (without creating Strings for the
+ * fields),</li>
+ * <li>worker threads materialize the fields and map the rows in batches and</li>
+ * <li>the calling thread receives the mapped rows - in their original order - via
+ * {@link #next()}.</li>
+ * </ol>
+ *
+ * <pre>
+ * try (CsvPipeline&lt;Order&gt; pipeline = csvReader.pipeline(System.in, UTF_8, 3, mapper)) {
+ *     Order order;
+ *     while ((order = pipeline.next()) != null) {
+ *         // ...
+ *     }
+ * }
+ * </pre>
+ *
+ * The number of batches in progress is limited, so tokenizing pauses if the rows aren't
+ * consumed fast enough. The pipeline has to be closed in order to stop all threads if not
+ * all rows are consumed.
+ *
+ * @param <T> the type of the mapped rows
+ * @author Oliver Siegmar
+ * @see CsvReader#pipeline(java.io.InputStream, java.nio.charset.Charset, int, Mapper)
+ */
+public final class CsvPipeline<T> implements Closeable {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int BATCHES_PER_WORKER = 2;
+
+    private final CsvParser csvParser;
+    private final Mapper<T> mapper;
+    private final ExecutorService workers;
+    private final BlockingQueue<Future<List<T>>> batches;
+    private final FutureTask<List<T>> tokenizing;
+    private final Thread tokenizer;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean finished;
+    private volatile boolean closed;
+
+    private CsvPipeline(final CsvParser csvParser, final int workerCount,
+                        final Mapper<T> mapper) {
+        this.csvParser = csvParser;
+        this.mapper = mapper;
+        workers = Executors.newFixedThreadPool(workerCount, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                // like the tokenizer - an abandoned pipeline must not keep the JVM alive
+                final Thread thread = new Thread(r, "fastcsv-worker");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        batches = new ArrayBlockingQueue<>(workerCount * BATCHES_PER_WORKER);
+
+        // the completed tokenizer is the last element - it signals the end of data or an error
+        tokenizing = new FutureTask<List<T>>(new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws IOException, InterruptedException {
+                tokenize();
+                return null;
+            }
+        }) {
+            @Override
+            protected void done() {
+                enqueue(this);
+            }
+        };
+        tokenizer = new Thread(tokenizing, "fastcsv-tokenizer");
+        tokenizer.setDaemon(true);
+    }
+
+    /**
+     * Starts a pipeline.
+     *
+     * @param csvParser the parser to read the rows from - configured for lazy fields
+     * @param workerCount the number of worker threads
+     * @param mapper the mapper to apply to every row
+     * @param <T> the type of the mapped rows
+     * @return the running pipeline
+     */
+    static <T> CsvPipeline<T> start(final CsvParser csvParser, final int workerCount,
+                                    final Mapper<T> mapper) {
+        final CsvPipeline<T> pipeline = new CsvPipeline<>(csvParser, workerCount, mapper);
+        pipeline.tokenizer.start();
+        return pipeline;
+    }
+
+    private void tokenize() throws IOException, InterruptedException {
+        try (final CsvParser parser = csvParser) {
+            List<CsvRow> rows = new ArrayList<>(BATCH_SIZE);
+            try {
+                for (CsvRow row = parser.nextRow(); row != null; row = parser.nextRow()) {
+                    rows.add(row);
+                    if (rows.size() == BATCH_SIZE) {
+                        batches.put(workers.submit(mapTask(rows)));
+                        rows = new ArrayList<>(BATCH_SIZE);
+                    }
+                }
+            } finally {
+                // the rows before an invalid row are passed on nonetheless
+                if (!rows.isEmpty()) {
+                    batches.put(workers.submit(mapTask(rows)));
+                }
+            }
+        }
+    }
+
+    private Callable<List<T>> mapTask(final List<CsvRow> rows) {
+        return new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws IOException {
+                final List<T> mapped = new ArrayList<>(rows.size());
+                for (final CsvRow row : rows) {
+                    mapped.add(Objects.requireNonNull(mapper.map(row),
+                        "mapper must not return null"));
+                }
+                return mapped;
+            }
+        };
+    }
+
+    private void enqueue(final Future<List<T>> future) {
+        if (closed) {
+            return;
+        }
+        try {
+            batches.put(future);
+        } catch (final InterruptedException e) {
+            // closed - nobody is waiting for the result
+        }
+    }
+
+    /**
+     * Returns the next mapped row.
+     *
+     * @return the next mapped row or {@code null} if the end of data is reached
+     * @throws IOException if reading or mapping failed - the pipeline is closed then (rows are
+     * mapped in batches and no row of a batch whose mapping failed is returned). Runtime
+     * exceptions thrown by the mapper are passed on the same way.
+     */
+    public T next() throws IOException {
+        while (!current.hasNext()) {
+            if (finished) {
+                return null;
+            }
+            final Future<List<T>> future = take();
+            if (future == tokenizing) {
+                finished = true;
+                workers.shutdown();
+            }
+            boolean success = false;
+            try {
+                final List<T> batch = ParallelTasks.get(future);
+                current = batch != null ? batch.iterator() : current;
+                success = true;
+            } finally {
+                // close on any failure - also on runtime exceptions thrown by the mapper
+                if (!success) {
+                    close();
+                }
+            }
+        }
+        return current.next();
+    }
+
+    private Future<List<T>> take() throws IOException {
+        try {
+            return batches.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for rows", e);
+        }
+    }
+
+    /**
+     * Stops all threads - the underlying stream is closed by the tokenizing thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        finished = true;
+        current = Collections.emptyIterator();
+        tokenizer.interrupt();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Maps a row - called by multiple worker threads concurrently.
+     *
+     * @param <T> the type of the mapped rows
+     */
+    public interface Mapper<T> {
+
+        /**
+         * Maps the given row.
+         *
+         * @param row the row to map
+         * @return the mapped row - must not be {@code null}
+         * @throws IOException if the row cannot be mapped
+         */
+        T map(CsvRow row) throws IOException;
+
+    }
+
+}
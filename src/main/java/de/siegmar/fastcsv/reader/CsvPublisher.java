@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of the rows of a {@link CsvParser} with backpressure. Rows are read only as far as
+ * the subscriber has signaled demand - one unit of demand is one batch of rows.
+ *
+ * The interfaces follow the semantics of {@code java.util.concurrent.Flow} (Reactive Streams)
+ * so that they can be bridged to any reactive library with a few lines of code:
+ *
+ * <pre>
+ * CsvPublisher publisher = new CsvPublisher(csvReader.parse(path, UTF_8), executor, 100);
+ * publisher.subscribe(new CsvPublisher.Subscriber() {
+ *     public void onSubscribe(CsvPublisher.Subscription subscription) {
+ *         subscription.request(1);
+ *     }
+ *     public void onNext(List&lt;CsvRow&gt; rows) {
+ *         // ...
+ *     }
+ *     // ...
+ * });
+ * </pre>
+ *
+ * Rows are read and passed to the subscriber by tasks of the given executor - never by the
+ * thread calling {@link Subscription#request(long)}. Only one subscriber is supported as the
+ * rows are read only once. The parser is closed after the last row was published, on error
+ * and on cancellation.
+ *
+ * @author Oliver Siegmar
+ */
+public final class CsvPublisher {
+
+    private final CsvParser csvParser;
+    private final Executor executor;
+    private final int batchSize;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructs a new publisher.
+     *
+     * @param csvParser the parser to read the rows from - must not be {@code null}.
+     * @param executor the executor to read and publish the rows with - must not be
+     *                 {@code null}.
+     * @param batchSize the (maximum) number of rows passed to a single
+     *                  {@link Subscriber#onNext(List)} call.
+     * @throws IllegalArgumentException if the batch size is less than 1 or the parser reuses
+     * rows (see {@link CsvReader#setReuseRows(boolean)}) and the batch size is greater than 1
+     */
+    public CsvPublisher(final CsvParser csvParser, final Executor executor,
+                        final int batchSize) {
+        Objects.requireNonNull(csvParser, "csvParser must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        if (batchSize > 1 && csvParser.isReuseRows()) {
+            throw new IllegalArgumentException("batchSize must be 1 if rows are reused");
+        }
+        this.csvParser = csvParser;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes the given subscriber. If this publisher already has a subscriber,
+     * {@link Subscriber#onError(Throwable)} is called with an {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber - must not be {@code null}.
+     */
+    public void subscribe(final Subscriber subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(new RowSubscription(subscriber));
+    }
+
+    /**
+     * Receiver of row batches - see {@code java.util.concurrent.Flow.Subscriber}.
+     */
+    public interface Subscriber {
+
+        /**
+         * Called once before any other method. No rows are published before demand is
+         * signaled via {@link Subscription#request(long)}.
+         *
+         * @param subscription the subscription to signal demand with
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called for every batch of rows - not more often than requested.
+         *
+         * @param rows the next rows - never empty and only the last batch may contain fewer
+         *             rows than the configured batch size. An exception thrown by this
+         *             method cancels the subscription.
+         */
+        void onNext(List<CsvRow> rows);
+
+        /**
+         * Called if reading the rows failed - no other method is called afterwards.
+         *
+         * @param throwable the cause - typically an {@link IOException}, but also any
+         *                  {@link RuntimeException} thrown while reading
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called after the last row was published - no other method is called afterwards.
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * Link between publisher and subscriber - see
+     * {@code java.util.concurrent.Flow.Subscription}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of batches to the current demand.
+         *
+         * @param n the number of additional batches - {@link Long#MAX_VALUE} for unbounded
+         *          demand. A number less than 1 cancels the subscription with an
+         *          {@link IllegalArgumentException} passed to
+         *          {@link Subscriber#onError(Throwable)}.
+         */
+        void request(long n);
+
+        /**
+         * Stops publishing rows (eventually) and closes the parser.
+         */
+        void cancel();
+
+    }
+
+    private final class RowSubscription implements Subscription, Runnable {
+
+        private final Subscriber subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+        private CsvRow nextRow;
+
+        RowSubscription(final Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n < 1) {
+                invalidRequest = new IllegalArgumentException(
+                    "Number of requested batches must be greater than 0 but was " + n);
+            } else {
+                addDemand(n);
+            }
+            schedule();
+        }
+
+        private void addDemand(final long n) {
+            long current;
+            long next;
+            do {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, next));
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            // only one task reads at a time - signals while running let it loop again
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    publish();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void publish() {
+            long published = 0;
+            while (!done && !cancelled && invalidRequest == null && published < demand.get()) {
+                if (publishBatch()) {
+                    published++;
+                }
+            }
+
+            if (done) {
+                return;
+            }
+            if (invalidRequest != null || cancelled) {
+                finish(invalidRequest);
+            } else if (demand.get() != Long.MAX_VALUE) {
+                demand.addAndGet(-published);
+            }
+        }
+
+        /**
+         * Reads the next batch and passes it to the subscriber - finishes the subscription
+         * right after the last batch or if reading fails.
+         *
+         * @return {@code true} if a batch was passed to the subscriber
+         */
+        private boolean publishBatch() {
+            final List<CsvRow> rows;
+            try {
+                rows = readBatch();
+            } catch (final IOException | RuntimeException e) {
+                finish(e);
+                return false;
+            }
+
+            if (!rows.isEmpty()) {
+                try {
+                    subscriber.onNext(rows);
+                } catch (final RuntimeException e) {
+                    // a failing subscriber is treated like a cancelled one
+                    cancelled = true;
+                    finish(null);
+                    return false;
+                }
+            }
+            if (rows.size() < batchSize) {
+                finish(null);
+            } else {
+                readAhead();
+            }
+            return !rows.isEmpty();
+        }
+
+        private List<CsvRow> readBatch() throws IOException {
+            final List<CsvRow> rows = new ArrayList<>(batchSize);
+            if (nextRow != null) {
+                rows.add(nextRow);
+                nextRow = null;
+            }
+            while (rows.size() < batchSize) {
+                final CsvRow row = csvParser.nextRow();
+                if (row == null) {
+                    break;
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        /**
+         * Reads the first row of the next batch in order to complete the subscription without
+         * further demand if the last batch was a full one. This is done after the subscriber
+         * received the current batch as rows may be reused.
+         */
+        private void readAhead() {
+            try {
+                nextRow = csvParser.nextRow();
+            } catch (final IOException | RuntimeException e) {
+                finish(e);
+                return;
+            }
+            if (nextRow == null) {
+                finish(null);
+            }
+        }
+
+        private void finish(final Throwable throwable) {
+            done = true;
+            Throwable error = throwable;
+            try {
+                csvParser.close();
+            } catch (final IOException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+
+            if (cancelled && throwable == null) {
+                // a cancelled subscriber doesn't receive any further signals
+                return;
+            }
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking parser for CSV data that is passed in chunk by chunk (e.g. from NIO channels or
+ * asynchronous HTTP bodies). Chunks can be split at arbitrary positions - the state of an
+ * incomplete row is preserved until the next chunk arrives.
+ *
+ * <pre>
+ * CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+ *
+ * // for every chunk received
+ * parser.feed(chunk);
+ * CsvRow row;
+ * while ((row = parser.nextRow()) != null) {
+ *     // ...
+ * }
+ *
+ * // after the last chunk
+ * parser.finish();
+ * while ((row = parser.nextRow()) != null) {
+ *     // ...
+ * }
+ * </pre>
+ *
+ * This class is not thread-safe - but it can be used by different threads one after another.
+ *
+ * @author Oliver Siegmar
+ * @see CsvReader#pushParser(java.nio.charset.Charset)
+ */
+public final class CsvPushParser implements Closeable {
+
+    private final FeedReader feedReader;
+    private final CsvParser csvParser;
+
+    CsvPushParser(final FeedReader feedReader, final CsvParser csvParser) {
+        this.feedReader = feedReader;
+        this.csvParser = csvParser;
+    }
+
+    /**
+     * Passes the next chunk of data to this parser. The chunk is consumed completely - the
+     * buffer can be reused after this method returns.
+     *
+     * @param data the next chunk of data
+     * @throws IllegalStateException if {@link #finish()} was called before or this parser was
+     * created without a charset
+     */
+    public void feed(final ByteBuffer data) {
+        feedReader.feed(Objects.requireNonNull(data, "data must not be null"));
+    }
+
+    /**
+     * Passes the next chunk of (already decoded) data to this parser. The chunk is consumed
+     * completely - the buffer can be reused after this method returns.
+     *
+     * @param data the next chunk of data
+     * @throws IllegalStateException if {@link #finish()} was called before
+     */
+    public void feed(final CharBuffer data) {
+        feedReader.feed(Objects.requireNonNull(data, "data must not be null"));
+    }
+
+    /**
+     * Signals that all data has been passed - the last row doesn't need to be terminated by a
+     * line break.
+     *
+     * @throws IllegalStateException if {@link #finish()} was called before
+     */
+    public void finish() {
+        feedReader.finish();
+    }
+
+    /**
+     * Returns the header fields - see {@link CsvParser#getHeader()}.
+     *
+     * @return the header fields
+     * @throws IllegalStateException if header parsing is not enabled or no header was read yet
+     */
+    public List<String> getHeader() {
+        return csvParser.getHeader();
+    }
+
+    /**
+     * Returns the next complete row of the data passed so far.
+     *
+     * @return a CsvRow or {@code null} if more data is needed (or the end of data is reached
+     * after {@link #finish()} was called)
+     * @throws IOException if the data is invalid (e.g. different field counts)
+     * @see CsvParser#nextRow()
+     */
+    public CsvRow nextRow() throws IOException {
+        return csvParser.nextRow();
+    }
+
+    /**
+     * Passes the next complete row of the data passed so far to the given handler. The fields
+     * of a row that needs more data may already be passed to the handler - its
+     * {@link CsvHandler#endRow(long)} method is called when the row is complete. Thus the same
+     * handler has to be used for all rows.
+     *
+     * @param handler the handler to pass the fields of the row to
+     * @return {@code false} if more data is needed (or the end of data is reached after
+     * {@link #finish()} was called)
+     * @throws IOException if the data is invalid (e.g. different field counts)
+     * @see CsvParser#nextRow(CsvHandler)
+     */
+    public boolean nextRow(final CsvHandler handler) throws IOException {
+        return csvParser.nextRow(handler);
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvParser.close();
+    }
+
+}
@@ -18,8 +18,10 @@ package de.siegmar.fastcsv.reader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,10 +33,19 @@ import java.util.Objects;
 /**
  * This is the main class for reading CSV data.
  *
+ * Files can be read as gzip compressed data (see {@link #setDecompress(boolean)}) - they are
+ * inflated by a separate thread while the data is parsed. Compressed files cannot be memory
+ * mapped, read in parallel, split, followed or indexed (row indexes) and resuming at a
+ * checkpoint requires skipping the data before.
+ *
  * @author Oliver Siegmar
  */
 public final class CsvReader {
 
+    private static final int DEFAULT_MEMORY_MAPPING_WINDOW_SIZE = 256 * 1024 * 1024;
+    private static final int DEFAULT_STRING_CACHE_SIZE = 1024;
+    private static final long DEFAULT_FOLLOW_POLL_INTERVAL = 1000;
+
     /**
      * Field separator character (default: ',' - comma).
      */
@@ -60,6 +71,87 @@ public final class CsvReader {
      */
     private boolean errorOnDifferentFieldCount;
 
+    /**
+     * Read files via memory mapping? (default: false).
+     */
+    private boolean memoryMapped;
+
+    /**
+     * Size of a single memory mapped window (default: 256 MB).
+     */
+    private int memoryMappingWindowSize = DEFAULT_MEMORY_MAPPING_WINDOW_SIZE;
+
+    /**
+     * Read files as gzip compressed data? (default: false).
+     */
+    private boolean decompress;
+
+    /**
+     * Number of buffers read ahead by a separate thread (default: 0 - disabled).
+     */
+    private int readAhead;
+
+    /**
+     * Size of a single buffer read ahead (default: 64 KB).
+     */
+    private int readAheadBufferSize = ReadAheadInputStream.DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Number of threads used for reading an entire file (default: 1).
+     */
+    private int parallelism = 1;
+
+    /**
+     * Return the same row instance on every call of {@link CsvParser#nextRow()}?
+     * (default: false).
+     */
+    private boolean reuseRows;
+
+    /**
+     * Create the Strings of fields only when they're accessed? (default: false).
+     */
+    private boolean lazyFields;
+
+    /**
+     * Read rows via a structural index? (default: false).
+     */
+    private boolean structuralIndexing;
+
+    /**
+     * Store the data of a CsvContainer column by column? (default: false).
+     */
+    private boolean columnar;
+
+    /**
+     * Store the data of a CsvContainer in off-heap memory? (default: false).
+     */
+    private boolean offHeap;
+
+    /**
+     * The types of the columns of a columnar CsvContainer (default: inferred).
+     */
+    private ColumnType[] columnTypes;
+
+    /**
+     * The columns to read (default: all).
+     */
+    private ColumnSelection columnSelection;
+
+    /**
+     * The columns whose values are deduplicated (default: none).
+     */
+    private int[] cachedColumns;
+
+    /**
+     * Maximum number of cached values per column (default: 1024).
+     */
+    private int stringCacheSize = DEFAULT_STRING_CACHE_SIZE;
+
+    /**
+     * Milliseconds to wait before checking a followed file for new data (default: 1000).
+     */
+    private long followPollInterval = DEFAULT_FOLLOW_POLL_INTERVAL;
+
     /**
      * Sets the field separator character (default: ',' - comma).
      */
@@ -96,6 +188,253 @@ public final class CsvReader {
         this.errorOnDifferentFieldCount = errorOnDifferentFieldCount;
     }
 
+    /**
+     * Specifies if files should be read via memory mapping (default: false). The mapped bytes
+     * are decoded directly into the parser's character buffer, without an intermediate byte
+     * buffer. This is most useful for large files that are read repeatedly. Only applies to
+     * methods reading from a {@link File} or {@link Path}.
+     */
+    public void setMemoryMapped(final boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
+    /**
+     * Sets the size of a single memory mapped window (default: 256 MB). Larger files are mapped
+     * window by window.
+     *
+     * @throws IllegalArgumentException if memoryMappingWindowSize is not positive
+     * @see #setMemoryMapped(boolean)
+     */
+    public void setMemoryMappingWindowSize(final int memoryMappingWindowSize) {
+        if (memoryMappingWindowSize <= 0) {
+            throw new IllegalArgumentException("memoryMappingWindowSize must be > 0");
+        }
+        this.memoryMappingWindowSize = memoryMappingWindowSize;
+    }
+
+    /**
+     * Specifies if files should be read as gzip compressed data (default: false). The data is
+     * inflated by a separate thread while it is parsed. Only applies to methods reading from a
+     * {@link File} or {@link Path} - compressed files are never memory mapped, read in parallel
+     * or split. Following them or creating / using row indexes is not supported.
+     */
+    public void setDecompress(final boolean decompress) {
+        this.decompress = decompress;
+    }
+
+    /**
+     * Sets the number of buffers that are read ahead by a separate thread (default: 0 -
+     * disabled). This lets the parser work on the current data while waiting for I/O, which is
+     * most useful for slow storage like network file systems. Only applies to methods reading
+     * from a {@link File} or {@link Path} without memory mapping - compressed files (see
+     * {@link #setDecompress(boolean)}) are always read ahead (with 4 buffers unless specified
+     * otherwise).
+     *
+     * @throws IllegalArgumentException if readAhead is negative
+     * @see #setReadAheadBufferSize(int)
+     */
+    public void setReadAhead(final int readAhead) {
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("readAhead must be >= 0");
+        }
+        this.readAhead = readAhead;
+    }
+
+    /**
+     * Sets the size of a single buffer read ahead (default: 64 KB).
+     *
+     * @throws IllegalArgumentException if readAheadBufferSize is not positive
+     * @see #setReadAhead(int)
+     */
+    public void setReadAheadBufferSize(final int readAheadBufferSize) {
+        if (readAheadBufferSize <= 0) {
+            throw new IllegalArgumentException("readAheadBufferSize must be > 0");
+        }
+        this.readAheadBufferSize = readAheadBufferSize;
+    }
+
+    /**
+     * Sets the number of threads used for reading an entire file via
+     * {@link #read(Path, Charset)} or {@link #read(File, Charset)} (default: 1).
+     *
+     * With a parallelism greater than 1, large files are split into chunks that are parsed
+     * in parallel (the chunks are read via memory mapping). Parallel reading requires the
+     * charset to be UTF-8, US-ASCII or ISO-8859-1 and both the field separator and the
+     * text delimiter to be ASCII characters - otherwise files are read by a single thread.
+     *
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Specifies if {@link CsvParser#nextRow()} should return the same (mutable) {@link CsvRow}
+     * instance on every call (default: false). This avoids allocating a new row (and its field
+     * list) for every row but the returned row is only valid until the next call of
+     * {@code nextRow()} - it must not be retained. Only applies to parsers created by one of the
+     * {@code parse} methods.
+     */
+    public void setReuseRows(final boolean reuseRows) {
+        this.reuseRows = reuseRows;
+    }
+
+    /**
+     * Specifies if the Strings of fields should only be created when they're accessed
+     * (default: false). Instead of one String per field, every row then holds a single char
+     * array with the characters of all its fields - a String is created (and retained) on the
+     * first access of a field via {@link CsvRow#getField(int)} and alike. This is most
+     * useful if only some fields of a row are accessed. The typed accessors of
+     * {@link CsvRow} (e.g. {@link CsvRow#getInt(int)}) parse directly from the characters and
+     * never create a String.
+     */
+    public void setLazyFields(final boolean lazyFields) {
+        this.lazyFields = lazyFields;
+    }
+
+    /**
+     * Specifies if rows should be read via a structural index (default: false). The positions
+     * of all field separators, text delimiters and line breaks of a buffer are collected
+     * first - fields are then passed on by walking these positions only, instead of looking at
+     * every character. This is most useful for data with many short fields without quotes
+     * (e.g. numeric data). Rows containing text delimiters (and rows spanning buffer
+     * boundaries) are read character by character as usual, so the result is always the same.
+     *
+     * Only applies to ASCII field separators and text delimiters - otherwise all rows are read
+     * character by character.
+     */
+    public void setStructuralIndexing(final boolean structuralIndexing) {
+        this.structuralIndexing = structuralIndexing;
+    }
+
+    /**
+     * Specifies if the {@link CsvContainer} returned by the {@code read} methods should store
+     * its data column by column (default: false). This needs considerably less memory than
+     * storing one String per field: numeric columns are stored as primitive arrays, columns
+     * with few distinct values as dictionary and all other columns as plain characters.
+     * Rows are created on access - thus {@link CsvContainer#getRow(int)} returns a new
+     * instance on every call.
+     *
+     * The types of the columns are specified via {@link #setColumnTypes(ColumnType...)} or are
+     * inferred from the data. An inferred column is only stored as numbers if all its values
+     * are in the canonical notation of Java ({@link Integer#toString(int)},
+     * {@link Long#toString(long)} and {@link Double#toString(double)}) - thus every value is
+     * restored exactly. Columnar containers are always read by a single thread.
+     */
+    public void setColumnar(final boolean columnar) {
+        this.columnar = columnar;
+    }
+
+    /**
+     * Specifies if the {@link CsvContainer} returned by the {@code read} methods should store
+     * its data in direct (off-heap) memory (default: false). Instead of one String per field
+     * (that has to be traced by the garbage collector), the characters and offsets of all rows
+     * are stored in a few large direct byte buffers - thus garbage collection pauses don't
+     * depend on the size of the data. Rows (and Strings of fields) are created on access - thus
+     * {@link CsvContainer#getRow(int)} returns a new instance on every call.
+     *
+     * The amount of direct memory available is limited by the JVM option
+     * {@code -XX:MaxDirectMemorySize}. The memory is released when the container is garbage
+     * collected. Off-heap containers are always read by a single thread and take precedence
+     * over {@link #setColumnar(boolean)}.
+     */
+    public void setOffHeap(final boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * Specifies the types of the columns (by index, starting with 0) of a columnar
+     * {@link CsvContainer} (default: inferred). The values of numeric columns are returned in
+     * the notation of Java (e.g. "1.50" is returned as "1.5"). Reading fails with an
+     * {@link IOException} if a value can't be parsed.
+     *
+     * @param types the types of the columns - {@code null} elements (or columns beyond the
+     *              array) are inferred
+     * @see #setColumnar(boolean)
+     */
+    public void setColumnTypes(final ColumnType... types) {
+        columnTypes = types != null ? types.clone() : null;
+    }
+
+    /**
+     * Specifies the columns (by index, starting with 0) to read (default: all columns). Fields of
+     * all other columns are skipped without creating any objects for them. Rows (and the header)
+     * only contain the fields of the selected columns - in the order of the CSV data.
+     *
+     * @param columnIndexes the indexes of the columns to read or {@code null} for all columns
+     * @throws IllegalArgumentException if an index is negative
+     */
+    public void setColumnIndexes(final int... columnIndexes) {
+        columnSelection = columnIndexes != null ? ColumnSelection.ofIndexes(columnIndexes) : null;
+    }
+
+    /**
+     * Specifies the columns (by header name) to read (default: all columns). Fields of all other
+     * columns are skipped without creating any objects for them. Rows (and the header) only
+     * contain the fields of the selected columns - in the order of the CSV data.
+     *
+     * Requires the data to contain a header (see {@link #setContainsHeader(boolean)}). Reading
+     * fails with an {@link IOException} if the header doesn't contain a selected column.
+     *
+     * @param columnNames the names of the columns to read or {@code null} for all columns
+     */
+    public void setColumnNames(final String... columnNames) {
+        columnSelection = columnNames != null ? ColumnSelection.ofNames(columnNames) : null;
+    }
+
+    /**
+     * Specifies the columns (by index, starting with 0) whose values should be deduplicated
+     * (default: none). Equal values of such a column share a single String instance, which
+     * reduces the memory needed for retaining rows of low-cardinality columns (e.g. a country
+     * or status column). Every column uses its own bounded cache (see
+     * {@link #setStringCacheSize(int)}) - columns with many distinct values are read as usual.
+     *
+     * @param columnIndexes the indexes of the columns to deduplicate or {@code null} for none
+     * @throws IllegalArgumentException if an index is negative
+     */
+    public void setCachedColumns(final int... columnIndexes) {
+        if (columnIndexes != null) {
+            for (final int index : columnIndexes) {
+                if (index < 0) {
+                    throw new IllegalArgumentException("column indexes must be >= 0");
+                }
+            }
+        }
+        cachedColumns = columnIndexes != null
+            ? ColumnSelection.sortDistinct(columnIndexes.clone()) : null;
+    }
+
+    /**
+     * Sets the maximum number of cached values per column (default: 1024). The cache evicts
+     * values in order to not exceed this size. Values that can't be cached are read as usual.
+     *
+     * @throws IllegalArgumentException if stringCacheSize is not positive
+     * @see #setCachedColumns(int...)
+     */
+    public void setStringCacheSize(final int stringCacheSize) {
+        if (stringCacheSize <= 0) {
+            throw new IllegalArgumentException("stringCacheSize must be > 0");
+        }
+        this.stringCacheSize = stringCacheSize;
+    }
+
+    /**
+     * Sets the number of milliseconds to wait before checking a followed file for new data
+     * (default: 1000).
+     *
+     * @throws IllegalArgumentException if followPollInterval is not positive
+     * @see #follow(Path, Charset)
+     */
+    public void setFollowPollInterval(final long followPollInterval) {
+        if (followPollInterval <= 0) {
+            throw new IllegalArgumentException("followPollInterval must be > 0");
+        }
+        this.followPollInterval = followPollInterval;
+    }
+
     /**
      * Reads an entire file and returns a CsvContainer containing the data.
      *
@@ -122,6 +461,18 @@ public final class CsvReader {
     public CsvContainer read(final Path path, final Charset charset) throws IOException {
         Objects.requireNonNull(path, "path must not be null");
         Objects.requireNonNull(charset, "charset must not be null");
+
+        final boolean heapRows = !columnar && !offHeap;
+        final boolean parallel = parallelism > 1 && heapRows && !decompress;
+        if (parallel && ParallelCsvReader.isSupported(charset, fieldSeparator, textDelimiter)
+            && Files.size(path) >= 2L * ParallelCsvReader.MIN_CHUNK_SIZE) {
+
+            final ParallelCsvReader parallelCsvReader =
+                new ParallelCsvReader(this, path, charset, parallelism);
+            final List<CsvRow> rows = parallelCsvReader.read(ParallelCsvReader.MIN_CHUNK_SIZE);
+            return new CsvContainer(parallelCsvReader.getHeader(), rows);
+        }
+
         try (final Reader reader = newPathReader(path, charset)) {
             return read(reader);
         }
@@ -140,7 +491,14 @@ public final class CsvReader {
      */
     public CsvContainer read(final Reader reader) throws IOException {
         final CsvParser csvParser =
-            parse(Objects.requireNonNull(reader, "reader must not be null"));
+            newParser(Objects.requireNonNull(reader, "reader must not be null"), false);
+
+        if (offHeap) {
+            return OffHeapRowList.read(csvParser, containsHeader);
+        }
+        if (columnar) {
+            return ColumnarRowList.read(csvParser, columnTypes, containsHeader);
+        }
 
         final List<CsvRow> rows = new ArrayList<>();
         CsvRow csvRow;
@@ -152,6 +510,123 @@ public final class CsvReader {
         return new CsvContainer(header, rows);
     }
 
+    /**
+     * Reads an entire file and passes all rows to the given handler - without creating any
+     * objects per field or row.
+     *
+     * @param file the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param handler the handler to pass the rows to - must not be {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see CsvParser#nextRow(CsvHandler)
+     */
+    public void read(final File file, final Charset charset, final CsvHandler handler)
+        throws IOException {
+        read(
+            Objects.requireNonNull(file, "file must not be null").toPath(),
+            Objects.requireNonNull(charset, "charset must not be null"),
+            handler
+        );
+    }
+
+    /**
+     * Reads an entire file and passes all rows to the given handler - without creating any
+     * objects per field or row.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param handler the handler to pass the rows to - must not be {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see CsvParser#nextRow(CsvHandler)
+     */
+    public void read(final Path path, final Charset charset, final CsvHandler handler)
+        throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+
+        try (final Reader reader = newPathReader(path, charset)) {
+            read(reader, handler);
+        }
+    }
+
+    /**
+     * Reads from the provided reader until the end and passes all rows to the given handler -
+     * without creating any objects per field or row.
+     *
+     * @param reader the data source to read from.
+     * @param handler the handler to pass the rows to - must not be {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see CsvParser#nextRow(CsvHandler)
+     */
+    public void read(final Reader reader, final CsvHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "handler must not be null");
+        final CsvParser csvParser =
+            parse(Objects.requireNonNull(reader, "reader must not be null"));
+
+        while (csvParser.nextRow(handler)) {
+            // the handler does all the work
+        }
+    }
+
+    /**
+     * Counts the rows of a file (excluding the header) - without creating any objects per
+     * field or row.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @return the number of rows.
+     * @throws IOException if an I/O error occurs.
+     * @see CsvParser#skipRows(long)
+     */
+    public long countRows(final Path path, final Charset charset) throws IOException {
+        try (final CsvParser csvParser = parse(path, charset)) {
+            return csvParser.skipRows(Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Checks the structure of a file without creating any field. All problems are collected
+     * (with their line numbers) - unlike {@link #setErrorOnDifferentFieldCount(boolean)},
+     * validation doesn't stop at the first problem. Rows and fields are recognized like they
+     * are when reading with the current settings.
+     *
+     * @param path the file to validate.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param maxFieldSize the maximum number of characters of a field
+     *                     ({@link Integer#MAX_VALUE} for no limit).
+     * @return the report of all problems found - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public CsvValidationReport validate(final Path path, final Charset charset,
+                                        final int maxFieldSize) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+
+        try (final Reader reader = newPathReader(path, charset)) {
+            return validate(reader, maxFieldSize);
+        }
+    }
+
+    /**
+     * Checks the structure of the data of the provided reader without creating any field.
+     *
+     * @param reader the data source to validate.
+     * @param maxFieldSize the maximum number of characters of a field
+     *                     ({@link Integer#MAX_VALUE} for no limit).
+     * @return the report of all problems found - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see #validate(Path, Charset, int)
+     */
+    public CsvValidationReport validate(final Reader reader, final int maxFieldSize)
+        throws IOException {
+        Objects.requireNonNull(reader, "reader must not be null");
+        if (maxFieldSize < 1) {
+            throw new IllegalArgumentException("maxFieldSize must be > 0");
+        }
+        return CsvValidator.validate(reader, fieldSeparator, textDelimiter, containsHeader,
+            skipEmptyRows, maxFieldSize);
+    }
+
     /**
      * Constructs a new {@link CsvParser} for the specified arguments.
      *
@@ -194,13 +669,517 @@ public final class CsvReader {
      * @throws IOException if an I/O error occurs.
      */
     public CsvParser parse(final Reader reader) throws IOException {
-        return new CsvParser(Objects.requireNonNull(reader, "reader must not be null"),
-            fieldSeparator, textDelimiter, containsHeader, skipEmptyRows,
-            errorOnDifferentFieldCount);
+        return newParser(Objects.requireNonNull(reader, "reader must not be null"), reuseRows);
+    }
+
+    /**
+     * Constructs a new {@link CsvParser} that resumes parsing at the given checkpoint. The
+     * reader has to be positioned at the offset of the checkpoint
+     * ({@link CsvCheckpoint#getOffset()}) - e.g. by skipping that many characters.
+     *
+     * The settings of this reader have to be the same as the settings used for reading the
+     * data the checkpoint was created from.
+     *
+     * @param reader the data source to read from - positioned at the checkpoint.
+     * @param checkpoint the checkpoint to resume at - must not be {@code null}.
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the character offset of the checkpoint is unknown
+     * @see CsvParser#getCheckpoint()
+     */
+    public CsvParser parse(final Reader reader, final CsvCheckpoint checkpoint)
+        throws IOException {
+
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        checkCharOffset(checkpoint);
+        final CsvParser csvParser = parse(reader);
+        csvParser.resume(checkpoint, -1);
+        return csvParser;
+    }
+
+    /**
+     * Constructs a new {@link CsvParser} that resumes parsing the given file at the given
+     * checkpoint. Files are read starting at the byte offset of the checkpoint directly - if
+     * known (see {@link CsvCheckpoint#getByteOffset()}) and the file isn't compressed. Otherwise
+     * the characters before the checkpoint are decoded (but not parsed) in order to find the
+     * position within the file.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param checkpoint the checkpoint to resume at - must not be {@code null}.
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see CsvParser#getCheckpoint()
+     */
+    public CsvParser parse(final Path path, final Charset charset,
+                           final CsvCheckpoint checkpoint) throws IOException {
+
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        return resume(path, charset, checkpoint, false);
+    }
+
+    /**
+     * Constructs a new {@link CsvParser} for a continuously growing file (like
+     * {@code tail -f}). On reaching the end of the file, the parser waits for new data instead
+     * of signaling the end of data - a partially written row is not returned before its line
+     * terminator arrives.
+     *
+     * The file is checked for new data every {@link #setFollowPollInterval(long)}
+     * milliseconds. Reading ends by closing the parser (a call of {@link CsvParser#nextRow()}
+     * blocked by another thread fails with an {@link IOException} then) or by interrupting the
+     * reading thread. Memory mapping is not used for following a file.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public CsvParser follow(final Path path, final Charset charset) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        return parse(newPathReader(path, charset, 0, true));
+    }
+
+    /**
+     * Constructs a new {@link CsvParser} that resumes following a continuously growing file
+     * at the given checkpoint.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param checkpoint the checkpoint to resume at - must not be {@code null}.
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @see #follow(Path, Charset)
+     * @see #parse(Path, Charset, CsvCheckpoint)
+     */
+    public CsvParser follow(final Path path, final Charset charset,
+                            final CsvCheckpoint checkpoint) throws IOException {
+
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        return resume(path, charset, checkpoint, true);
+    }
+
+    /**
+     * Constructs a parser that resumes at the given checkpoint - seeking to its byte offset
+     * directly if possible.
+     */
+    private CsvParser resume(final Path path, final Charset charset,
+                             final CsvCheckpoint checkpoint, final boolean follow)
+        throws IOException {
+
+        final long byteOffset = checkpoint.getByteOffset();
+        if (byteOffset != -1 && !decompress) {
+            final CsvParser csvParser = newParser(newReader(
+                newPathInputStream(path, byteOffset, follow), charset), reuseRows);
+            csvParser.resume(checkpoint, byteOffset);
+            return csvParser;
+        }
+
+        checkCharOffset(checkpoint);
+        final long offset = checkpoint.getOffset();
+        final CsvParser csvParser = newParser(newPathReader(path, charset, offset, follow),
+            reuseRows);
+        // a compressed file or a multi byte charset is decoded from the beginning
+        csvParser.resume(checkpoint, decompress ? 0
+            : Math.max(FastInputStreamReader.toCharOffset(charset, offset), 0));
+        return csvParser;
+    }
+
+    private static void checkCharOffset(final CsvCheckpoint checkpoint) {
+        if (checkpoint.getOffset() == -1) {
+            throw new IllegalArgumentException("Character offset of checkpoint is unknown - "
+                + "resuming requires a file that can be positioned by the byte offset");
+        }
+    }
+
+    /**
+     * Constructs a new {@link CsvPushParser} for data that is passed in chunk by chunk -
+     * either as bytes (decoded with the given charset) or as chars.
+     *
+     * @param charset the character set to decode bytes with - {@code null} if only chars are
+     *                passed in.
+     * @return a new CsvPushParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public CsvPushParser pushParser(final Charset charset) throws IOException {
+        final FeedReader feedReader = FeedReader.of(charset);
+        return new CsvPushParser(feedReader, newParser(feedReader, reuseRows));
+    }
+
+    /**
+     * Splits a file into parsers of consecutive ranges of rows that can be used independently -
+     * e.g. by different threads. The file is split into byte ranges of roughly equal size
+     * (at least 1 MiB each) - the beginning of each range is moved to the next row boundary,
+     * so no row is split. Line numbers, offsets, header and field count checks are the same as
+     * if the whole file were parsed by a single parser. Finding the row boundaries requires a
+     * scan of the file that uses up to {@link #setParallelism(int)} threads.
+     *
+     * Splitting requires the charset to be UTF-8, US-ASCII or ISO-8859-1 and both the field
+     * separator and the text delimiter to be ASCII characters - otherwise a single parser for
+     * the whole file is returned.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param maxParts the maximum number of parsers to return.
+     * @return the parsers in the order of the file (at least one) - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if maxParts is not positive
+     */
+    public List<CsvParser> split(final Path path, final Charset charset, final int maxParts)
+        throws IOException {
+
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        if (maxParts <= 0) {
+            throw new IllegalArgumentException("maxParts must be > 0");
+        }
+        if (maxParts == 1 || decompress
+            || !ParallelCsvReader.isSupported(charset, fieldSeparator, textDelimiter)) {
+            final List<CsvParser> parsers = new ArrayList<>(1);
+            parsers.add(parse(path, charset));
+            return parsers;
+        }
+
+        return new ParallelCsvReader(this, path, charset, Math.min(maxParts, parallelism))
+            .split(ParallelCsvReader.MIN_CHUNK_SIZE, maxParts);
+    }
+
+    /**
+     * Reads a single stream (e.g. from a pipe or socket) with multiple threads: one thread
+     * reads the data ahead, one thread tokenizes it and the given number of worker threads
+     * create the fields and map the rows. The mapped rows are returned in their original order.
+     *
+     * Read-ahead uses the settings of {@link #setReadAhead(int)} and
+     * {@link #setReadAheadBufferSize(int)} (at least 4 buffers). Rows are never reused.
+     *
+     * @param in the stream to read data from - closed after the last row was read or the
+     *           pipeline was closed.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param workers the number of threads mapping the rows.
+     * @param mapper the mapper to apply to every row - must not be {@code null}.
+     * @param <T> the type of the mapped rows
+     * @return a new, running CsvPipeline - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if workers is not positive
+     */
+    public <T> CsvPipeline<T> pipeline(final InputStream in, final Charset charset,
+                                       final int workers, final CsvPipeline.Mapper<T> mapper)
+        throws IOException {
+
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be > 0");
+        }
+
+        final CsvParser csvParser = newParser(newReader(ReadAheadInputStream.start(in,
+            readAheadBufferSize, Math.max(readAhead, ReadAheadInputStream.DEFAULT_BUFFER_COUNT)),
+            charset), false);
+        csvParser.setLazyFields(true);
+        return CsvPipeline.start(csvParser, workers, mapper);
+    }
+
+    /**
+     * Creates an index of the byte offsets of every n-th row of a file and stores it next to
+     * the file (in a file with the suffix {@code .idx}). The index is used by
+     * {@link #parseFromRow(Path, Charset, long)} and
+     * {@link #parseFromLine(Path, Charset, long)} in order to start parsing in the middle of
+     * the file.
+     *
+     * The index is only used with the same settings (charset, field separator, text
+     * delimiter, header and empty row handling) and as long as the file isn't modified.
+     * Creating the index requires the charset to be UTF-8, US-ASCII or ISO-8859-1 and both the
+     * field separator and the text delimiter to be ASCII characters.
+     *
+     * @param path the file to create the index for.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param rowInterval the number of rows between two index entries (e.g. 10000).
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if rowInterval is not positive, the settings are not
+     * supported or decompression is enabled
+     */
+    public void createRowIndex(final Path path, final Charset charset, final int rowInterval)
+        throws IOException {
+
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        if (rowInterval <= 0) {
+            throw new IllegalArgumentException("rowInterval must be > 0");
+        }
+        if (!ParallelCsvReader.isSupported(charset, fieldSeparator, textDelimiter)) {
+            throw new IllegalArgumentException("Row indexes require UTF-8, US-ASCII or "
+                + "ISO-8859-1 encoded data with ASCII field separator and text delimiter");
+        }
+        checkNotCompressed();
+
+        try (final CsvParser csvParser = newParser(newPathReader(path, charset), false)) {
+            RowIndex.build(csvParser, path, indexSettings(charset), rowInterval).write(path);
+        }
+    }
+
+    /**
+     * Constructs a {@link CsvParser} that starts with the row of the given index. If an index
+     * was created via {@link #createRowIndex(Path, Charset, int)}, parsing starts at the last
+     * indexed row before the given row - otherwise at the beginning of the file.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param rowIndex the index of the first row to read (starting with 0 for the first row
+     *                 after the header).
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if decompression is enabled
+     */
+    public CsvParser parseFromRow(final Path path, final Charset charset, final long rowIndex)
+        throws IOException {
+
+        if (rowIndex < 0) {
+            throw new IllegalArgumentException("rowIndex must be >= 0");
+        }
+        final RowIndex index = loadRowIndex(path, charset);
+        final int entry = index != null ? index.entryOfRow(rowIndex) : -1;
+        final CsvParser csvParser = parseAt(path, charset, index, entry);
+        csvParser.skipRows(rowIndex - (entry != -1 ? index.getRow(entry) : 0));
+        return csvParser;
+    }
+
+    /**
+     * Constructs a {@link CsvParser} that starts with the first row that begins at or after
+     * the given line number. If an index was created via
+     * {@link #createRowIndex(Path, Charset, int)}, parsing starts at the last indexed row
+     * before the given line - otherwise at the beginning of the file.
+     *
+     * @param path the file to read data from.
+     * @param charset the character set to use - must not be {@code null}.
+     * @param lineNumber the original line number (starting with 1).
+     * @return a new CsvParser - never {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if decompression is enabled
+     * @see CsvRow#getOriginalLineNumber()
+     */
+    public CsvParser parseFromLine(final Path path, final Charset charset, final long lineNumber)
+        throws IOException {
+
+        final RowIndex index = loadRowIndex(path, charset);
+        final int entry = index != null ? index.entryOfLine(lineNumber) : -1;
+        final CsvParser csvParser = parseAt(path, charset, index, entry);
+        csvParser.skipToLine(lineNumber);
+        return csvParser;
+    }
+
+    private RowIndex loadRowIndex(final Path path, final Charset charset) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        checkNotCompressed();
+        return ParallelCsvReader.isSupported(charset, fieldSeparator, textDelimiter)
+            ? RowIndex.load(path, indexSettings(charset)) : null;
+    }
+
+    /**
+     * @return the settings an index is only valid for
+     */
+    private String indexSettings(final Charset charset) {
+        return charset.name() + ':' + (int) fieldSeparator + ':' + (int) textDelimiter + ':'
+            + containsHeader + ':' + skipEmptyRows;
+    }
+
+    /**
+     * Constructs a parser starting at the given index entry - or at the beginning of the file
+     * if there is none.
+     */
+    private CsvParser parseAt(final Path path, final Charset charset, final RowIndex index,
+                              final int entry) throws IOException {
+
+        if (entry == -1 || index.getOffset(entry) == 0) {
+            return newParser(newPathReader(path, charset), reuseRows);
+        }
+
+        // the header (and field count) of the first row
+        List<String> firstRow = null;
+        if (containsHeader || errorOnDifferentFieldCount) {
+            try (final CsvParser csvParser = new CsvParser(newPathReader(path, charset),
+                fieldSeparator, textDelimiter, false, skipEmptyRows, false, false)) {
+
+                final CsvRow row = csvParser.nextRow();
+                firstRow = row != null ? row.getFields() : null;
+            }
+        }
+
+        final long start = index.getOffset(entry);
+        final CsvParser csvParser = newParser(newReader(newPathInputStream(path, start),
+            charset), reuseRows);
+        csvParser.initState(containsHeader ? firstRow : null, index.getLineNumber(entry) - 1,
+            firstRow != null ? firstRow.size() : -1, FastInputStreamReader.toCharOffset(charset,
+            start), start, index.isAfterCarriageReturn(entry));
+        return csvParser;
+    }
+
+    private CsvParser newParser(final Reader reader, final boolean reuse) throws IOException {
+        final CsvParser csvParser = new CsvParser(reader, fieldSeparator, textDelimiter,
+            containsHeader, skipEmptyRows, errorOnDifferentFieldCount, reuse);
+        configure(csvParser);
+        return csvParser;
+    }
+
+    /**
+     * Applies the settings that are not passed to the constructor of CsvParser.
+     */
+    void configure(final CsvParser csvParser) throws IOException {
+        csvParser.setLazyFields(lazyFields);
+        csvParser.setStructuralIndexing(structuralIndexing);
+        if (columnSelection != null) {
+            csvParser.setColumnSelection(columnSelection);
+        }
+        if (cachedColumns != null) {
+            csvParser.setCachedColumns(cachedColumns, stringCacheSize);
+        }
+    }
+
+    char getFieldSeparator() {
+        return fieldSeparator;
+    }
+
+    char getTextDelimiter() {
+        return textDelimiter;
+    }
+
+    boolean isContainsHeader() {
+        return containsHeader;
+    }
+
+    boolean isReuseRows() {
+        return reuseRows;
+    }
+
+    boolean isSkipEmptyRows() {
+        return skipEmptyRows;
+    }
+
+    boolean isErrorOnDifferentFieldCount() {
+        return errorOnDifferentFieldCount;
+    }
+
+    ColumnSelection getColumnSelection() {
+        return columnSelection;
+    }
+
+    Reader newPathReader(final Path path, final Charset charset) throws IOException {
+        final InputStream in;
+        if (decompress) {
+            in = ReadAheadInputStream.gunzip(Files.newInputStream(path, StandardOpenOption.READ),
+                readAheadBufferSize, readAhead > 0
+                    ? readAhead : ReadAheadInputStream.DEFAULT_BUFFER_COUNT);
+        } else if (memoryMapped) {
+            in = new MappedFileInputStream(path, memoryMappingWindowSize);
+        } else {
+            in = withReadAhead(Files.newInputStream(path, StandardOpenOption.READ));
+        }
+        return newReader(in, charset);
+    }
+
+    /**
+     * Constructs a reader for a range of a file - the range is always read via memory mapping.
+     */
+    Reader newPathReader(final Path path, final Charset charset, final long start,
+                         final long end) throws IOException {
+        return newReader(newPathInputStream(path, start, end), charset);
+    }
+
+    /**
+     * Constructs a reader starting at the given character offset of a file - positioned
+     * directly for single byte charsets and by skipping characters otherwise.
+     */
+    private Reader newPathReader(final Path path, final Charset charset, final long offset,
+                                 final boolean follow) throws IOException {
+
+        if (decompress) {
+            if (follow) {
+                throw new IllegalArgumentException("Compressed files cannot be followed");
+            }
+            final Reader reader = newPathReader(path, charset);
+            skip(reader, offset);
+            return reader;
+        }
+
+        final long start = FastInputStreamReader.toCharOffset(charset, offset);
+        final Reader reader = newReader(newPathInputStream(path, Math.max(start, 0), follow),
+            charset);
+        if (start == -1) {
+            skip(reader, offset);
+        }
+        return reader;
+    }
+
+    /**
+     * Row indexes refer to byte offsets of the uncompressed data.
+     */
+    private void checkNotCompressed() {
+        if (decompress) {
+            throw new IllegalArgumentException("Row indexes are not supported for compressed "
+                + "files");
+        }
+    }
+
+    private static void skip(final Reader reader, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final long skipped = reader.skip(remaining);
+            if (skipped == 0) {
+                // end of data
+                break;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Constructs an input stream starting at the given position of a file.
+     */
+    private InputStream newPathInputStream(final Path path, final long start)
+        throws IOException {
+        return memoryMapped
+            ? newPathInputStream(path, start, Long.MAX_VALUE)
+            : withReadAhead(Channels.newInputStream(Files.newByteChannel(path).position(start)));
+    }
+
+    /**
+     * Constructs an input stream starting at the given position of a file - optionally
+     * following the file.
+     */
+    private InputStream newPathInputStream(final Path path, final long start,
+                                           final boolean follow) throws IOException {
+        return follow
+            ? FollowingInputStream.open(path, start, followPollInterval)
+            : newPathInputStream(path, start);
+    }
+
+    /**
+     * Constructs an input stream for a range of a file - the range is always read via memory
+     * mapping.
+     */
+    InputStream newPathInputStream(final Path path, final long start, final long end)
+        throws IOException {
+        return new MappedFileInputStream(path, start, end, memoryMappingWindowSize);
+    }
+
+    /**
+     * Reads the given stream ahead by a separate thread - if enabled.
+     */
+    private InputStream withReadAhead(final InputStream in) {
+        return readAhead > 0
+            ? ReadAheadInputStream.start(in, readAheadBufferSize, readAhead)
+            : in;
     }
 
-    private static Reader newPathReader(final Path path, final Charset charset) throws IOException {
-        return new InputStreamReader(Files.newInputStream(path, StandardOpenOption.READ), charset);
+    private static Reader newReader(final InputStream in, final Charset charset) {
+        return FastInputStreamReader.isSupported(charset)
+            ? new FastInputStreamReader(in, charset)
+            : new InputStreamReader(in, charset);
     }
 
 }
@@ -16,6 +16,7 @@
 
 package de.siegmar.fastcsv.reader;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -32,19 +33,41 @@ public final class CsvRow {
     /**
      * The original line number (empty lines may be skipped).
      */
-    private final long originalLineNumber;
+    private long originalLineNumber;
 
-    private final Map<String, Integer> headerMap;
+    /**
+     * The character offset of the row (-1 if unknown).
+     */
+    private long startingOffset;
+
+    private Map<String, Integer> headerMap;
     private final List<String> fields;
 
     CsvRow(final long originalLineNumber, final Map<String, Integer> headerMap,
            final List<String> fields) {
 
+        this(originalLineNumber, -1, headerMap, fields);
+    }
+
+    CsvRow(final long originalLineNumber, final long startingOffset,
+           final Map<String, Integer> headerMap, final List<String> fields) {
+
         this.originalLineNumber = originalLineNumber;
+        this.startingOffset = startingOffset;
         this.headerMap = headerMap;
         this.fields = fields;
     }
 
+    /**
+     * Reuses this row for the next row read (the fields list is updated by the parser).
+     */
+    void reset(final long newOriginalLineNumber, final long newStartingOffset,
+               final Map<String, Integer> newHeaderMap) {
+        originalLineNumber = newOriginalLineNumber;
+        startingOffset = newStartingOffset;
+        headerMap = newHeaderMap;
+    }
+
     /**
      * Returns the original line number (starting with 1). On multi-line rows this is the starting
      * line number. Empty lines could be skipped via {@link CsvReader#setSkipEmptyRows(boolean)}.
@@ -55,6 +78,18 @@ public final class CsvRow {
         return originalLineNumber;
     }
 
+    /**
+     * Returns the offset of the first character of this row (starting with 0) within the
+     * character stream read by the parser. Offsets are counted in characters (not bytes) and
+     * are only available for rows returned by a {@link CsvParser} that started at the
+     * beginning of the data or at a {@link CsvCheckpoint}.
+     *
+     * @return the character offset or -1 if not available
+     */
+    public long getStartingOffset() {
+        return startingOffset;
+    }
+
     /**
      * Gets a field value by its index (starting with 0).
      *
@@ -75,16 +110,185 @@ public final class CsvRow {
      * see {@link CsvReader#containsHeader}
      */
     public String getField(final String name) {
+        final int index = indexOf(name);
+        return index != -1 ? fields.get(index) : null;
+    }
+
+    private int indexOf(final String name) {
         if (headerMap == null) {
             throw new IllegalStateException("No header available");
         }
 
         final Integer col = headerMap.get(name);
-        if (col != null && col < fields.size()) {
-            return fields.get(col);
+        return col != null && col < fields.size() ? col : -1;
+    }
+
+    private int numberIndexOf(final String name) {
+        final int index = indexOf(name);
+        if (index == -1) {
+            throw new NumberFormatException("Field not found: " + name);
         }
+        return index;
+    }
+
+    /**
+     * Gets the lazy fields of this row - in order to parse a field without materializing it.
+     *
+     * @return the lazy fields or {@code null} if this row contains materialized fields
+     */
+    private LazyFieldList lazyFields() {
+        return fields instanceof LazyFieldList ? (LazyFieldList) fields : null;
+    }
+
+    /**
+     * Gets a field value by its index (starting with 0) as int - parsed like
+     * {@link Integer#parseInt(String)} but without intermediate objects.
+     *
+     * @param index index of the field to return
+     * @return field value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NumberFormatException if the field is missing or not a parsable int
+     */
+    public int getInt(final int index) {
+        final LazyFieldList lazy = lazyFields();
+        return lazy != null
+            ? FieldParser.parseInt(lazy.getBuffer(), lazy.getStart(index), lazy.getLength(index))
+            : Integer.parseInt(fields.get(index));
+    }
+
+    /**
+     * Gets a field value by its name as int - parsed like
+     * {@link Integer#parseInt(String)} but without intermediate objects.
+     *
+     * @param name field name
+     * @return field value
+     * @throws IllegalStateException if CSV is read without headers -
+     * see {@link CsvReader#containsHeader}
+     * @throws NumberFormatException if the field is missing or not a parsable int
+     */
+    public int getInt(final String name) {
+        return getInt(numberIndexOf(name));
+    }
+
+    /**
+     * Gets a field value by its index (starting with 0) as long - parsed like
+     * {@link Long#parseLong(String)} but without intermediate objects.
+     *
+     * @param index index of the field to return
+     * @return field value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NumberFormatException if the field is missing or not a parsable long
+     */
+    public long getLong(final int index) {
+        final LazyFieldList lazy = lazyFields();
+        return lazy != null
+            ? FieldParser.parseLong(lazy.getBuffer(), lazy.getStart(index), lazy.getLength(index))
+            : Long.parseLong(fields.get(index));
+    }
+
+    /**
+     * Gets a field value by its name as long - parsed like
+     * {@link Long#parseLong(String)} but without intermediate objects.
+     *
+     * @param name field name
+     * @return field value
+     * @throws IllegalStateException if CSV is read without headers -
+     * see {@link CsvReader#containsHeader}
+     * @throws NumberFormatException if the field is missing or not a parsable long
+     */
+    public long getLong(final String name) {
+        return getLong(numberIndexOf(name));
+    }
+
+    /**
+     * Gets a field value by its index (starting with 0) as double - parsed like
+     * {@link Double#parseDouble(String)} but without intermediate objects.
+     *
+     * @param index index of the field to return
+     * @return field value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NumberFormatException if the field is missing or not a parsable double
+     */
+    public double getDouble(final int index) {
+        final LazyFieldList lazy = lazyFields();
+        return lazy != null
+            ? FieldParser.parseDouble(lazy.getBuffer(), lazy.getStart(index), lazy.getLength(index))
+            : Double.parseDouble(fields.get(index));
+    }
+
+    /**
+     * Gets a field value by its name as double - parsed like
+     * {@link Double#parseDouble(String)} but without intermediate objects.
+     *
+     * @param name field name
+     * @return field value
+     * @throws IllegalStateException if CSV is read without headers -
+     * see {@link CsvReader#containsHeader}
+     * @throws NumberFormatException if the field is missing or not a parsable double
+     */
+    public double getDouble(final String name) {
+        return getDouble(numberIndexOf(name));
+    }
+
+    /**
+     * Gets a field value by its index (starting with 0) as boolean - parsed like
+     * {@link Boolean#parseBoolean(String)} but without intermediate objects.
+     *
+     * @param index index of the field to return
+     * @return field value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean getBoolean(final int index) {
+        final LazyFieldList lazy = lazyFields();
+        return lazy != null
+            ? FieldParser.parseBoolean(lazy.getBuffer(), lazy.getStart(index),
+                lazy.getLength(index))
+            : Boolean.parseBoolean(fields.get(index));
+    }
+
+    /**
+     * Gets a field value by its name as boolean - parsed like
+     * {@link Boolean#parseBoolean(String)} but without intermediate objects.
+     *
+     * @param name field name
+     * @return field value
+     * @throws IllegalStateException if CSV is read without headers -
+     * see {@link CsvReader#containsHeader}
+     */
+    public boolean getBoolean(final String name) {
+        final int index = indexOf(name);
+        return index != -1 && getBoolean(index);
+    }
 
-        return null;
+    /**
+     * Gets a field value by its index (starting with 0) as BigDecimal - parsed like
+     * {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param index index of the field to return
+     * @return field value
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NumberFormatException if the field is missing or not a parsable BigDecimal
+     */
+    public BigDecimal getBigDecimal(final int index) {
+        final LazyFieldList lazy = lazyFields();
+        return lazy != null
+            ? FieldParser.parseBigDecimal(lazy.getBuffer(), lazy.getStart(index),
+                lazy.getLength(index))
+            : new BigDecimal(fields.get(index));
+    }
+
+    /**
+     * Gets a field value by its name as BigDecimal - parsed like
+     * {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param name field name
+     * @return field value
+     * @throws IllegalStateException if CSV is read without headers -
+     * see {@link CsvReader#containsHeader}
+     * @throws NumberFormatException if the field is missing or not a parsable BigDecimal
+     */
+    public BigDecimal getBigDecimal(final String name) {
+        return getBigDecimal(numberIndexOf(name));
     }
 
     /**
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of validating CSV data via {@link CsvReader#validate(java.nio.file.Path,
+ * java.nio.charset.Charset, int)}.
+ *
+ * At most {@link #MAX_PROBLEMS} problems are recorded - all further problems are only
+ * counted.
+ *
+ * @author Oliver Siegmar
+ */
+public final class CsvValidationReport {
+
+    /**
+     * The maximum number of recorded problems.
+     */
+    public static final int MAX_PROBLEMS = 1000;
+
+    private final List<Problem> problems = new ArrayList<>();
+    private long problemCount;
+    private long rowCount;
+
+    CsvValidationReport() {
+    }
+
+    void addProblem(final ProblemType type, final long lineNumber, final String message) {
+        if (problems.size() < MAX_PROBLEMS) {
+            problems.add(new Problem(type, lineNumber, message));
+        }
+        problemCount++;
+    }
+
+    void setRowCount(final long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * @return {@code true} if no problem was found
+     */
+    public boolean isValid() {
+        return problemCount == 0;
+    }
+
+    /**
+     * Returns the recorded problems in the order of their occurrence. The returned list is
+     * unmodifiable.
+     *
+     * @return the recorded problems - at most {@link #MAX_PROBLEMS}
+     */
+    public List<Problem> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * @return the number of all problems found - recorded or not
+     */
+    public long getProblemCount() {
+        return problemCount;
+    }
+
+    /**
+     * @return the number of rows - excluding the header (like {@link CsvReader#countRows})
+     * but including empty rows that aren't skipped
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvValidationReport{"
+            + "rowCount=" + rowCount
+            + ", problemCount=" + problemCount
+            + ", problems=" + problems
+            + '}';
+    }
+
+    /**
+     * The type of a problem.
+     */
+    public enum ProblemType {
+
+        /**
+         * A quoted section that isn't closed until the end of data.
+         */
+        UNTERMINATED_QUOTE,
+
+        /**
+         * A text delimiter within a field that doesn't start with a text delimiter.
+         */
+        STRAY_QUOTE,
+
+        /**
+         * A row whose number of fields differs from the one of the first row.
+         */
+        DIFFERENT_FIELD_COUNT,
+
+        /**
+         * A field that exceeds the maximum field size.
+         */
+        FIELD_TOO_LONG
+
+    }
+
+    /**
+     * A structural problem of the data.
+     */
+    public static final class Problem {
+
+        private final ProblemType type;
+        private final long lineNumber;
+        private final String message;
+
+        Problem(final ProblemType type, final long lineNumber, final String message) {
+            this.type = type;
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        /**
+         * @return the type of this problem
+         */
+        public ProblemType getType() {
+            return type;
+        }
+
+        /**
+         * @return the original line number (starting with 1) of the problem - the line the row
+         * begins with for problems concerning an entire field or row
+         */
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * @return a description of this problem
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return type + " at line " + lineNumber + ": " + message;
+        }
+
+    }
+
+}
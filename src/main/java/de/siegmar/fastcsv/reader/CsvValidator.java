@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import de.siegmar.fastcsv.reader.CsvValidationReport.ProblemType;
+
+/**
+ * Checks the structure of CSV data without creating any field.
+ *
+ * The quote handling mirrors {@link RowReader} (text delimiters only start a quoted section at
+ * the beginning of a field or after a quoted section), so rows and fields are recognized
+ * exactly like RowReader does - only the length of each field and the number of fields of
+ * each row are tracked.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class CsvValidator {
+
+    private static final char LF = '\n';
+    private static final char CR = '\r';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char fieldSeparator;
+    private final char textDelimiter;
+    private final boolean skipEmptyRows;
+    private final int maxFieldSize;
+    private final CsvValidationReport report = new CsvValidationReport();
+
+    // state of the current row
+    private long rowLine = 1;
+    private int fieldIdx;
+    private long fieldLen;
+    private int firstRowFieldCount = -1;
+    private long rowCount;
+
+    private CsvValidator(final char fieldSeparator, final char textDelimiter,
+                         final boolean skipEmptyRows, final int maxFieldSize) {
+        this.fieldSeparator = fieldSeparator;
+        this.textDelimiter = textDelimiter;
+        this.skipEmptyRows = skipEmptyRows;
+        this.maxFieldSize = maxFieldSize;
+    }
+
+    /**
+     * Validates the given data.
+     *
+     * @param reader the data to validate
+     * @param fieldSeparator the field separator
+     * @param textDelimiter the text delimiter
+     * @param containsHeader {@code true} if the first row is the header (not counted as a row)
+     * @param skipEmptyRows {@code true} if empty rows are ignored
+     * @param maxFieldSize the maximum number of characters of a field
+     * @return the report of all problems found
+     * @throws IOException if an I/O error occurs
+     */
+    static CsvValidationReport validate(final Reader reader, final char fieldSeparator,
+                                        final char textDelimiter, final boolean containsHeader,
+                                        final boolean skipEmptyRows, final int maxFieldSize)
+        throws IOException {
+
+        final CsvValidator validator =
+            new CsvValidator(fieldSeparator, textDelimiter, skipEmptyRows, maxFieldSize);
+        validator.scan(reader);
+        final long rowCount = validator.rowCount;
+        validator.report.setRowCount(containsHeader && rowCount > 0 ? rowCount - 1 : rowCount);
+        return validator.report;
+    }
+
+    /*
+     * ugly, performance optimized code begins
+     */
+
+    private void scan(final Reader reader) throws IOException {
+        final char[] buf = new char[BUFFER_SIZE];
+        final char localFieldSeparator = fieldSeparator;
+        final char localTextDelimiter = textDelimiter;
+        long line = 1;
+        long quoteLine = 0;
+        int prevChar = -1;
+        boolean rowStarted = false;
+        boolean quoteOn = false;
+        boolean nonQuoted = false;
+        boolean fieldExists = false;
+        boolean strayQuote = false;
+
+        int len;
+        while ((len = reader.read(buf, 0, buf.length)) != -1) {
+            for (int i = 0; i < len; i++) {
+                final char c = buf[i];
+
+                if (quoteOn) {
+                    if (c == localTextDelimiter) {
+                        quoteOn = false;
+                    } else {
+                        if (c == CR || c == LF && prevChar != CR) {
+                            line++;
+                        }
+                        fieldLen++;
+                    }
+                } else if (c == localFieldSeparator) {
+                    endField();
+                    fieldIdx++;
+                    nonQuoted = false;
+                    fieldExists = false;
+                    strayQuote = false;
+                    rowStarted = true;
+                } else if (c == localTextDelimiter) {
+                    if (nonQuoted) {
+                        if (!strayQuote) {
+                            strayQuote = true;
+                            report.addProblem(ProblemType.STRAY_QUOTE, line, "Field "
+                                + fieldIdx + " contains a text delimiter but isn't quoted");
+                        }
+                        fieldLen++;
+                    } else {
+                        if (prevChar == localTextDelimiter) {
+                            // escaped quote
+                            fieldLen++;
+                        }
+                        quoteOn = true;
+                        quoteLine = line;
+                        fieldExists = true;
+                    }
+                    rowStarted = true;
+                } else if (c == CR || c == LF && prevChar != CR) {
+                    endRow(true);
+                    line++;
+                    rowLine = line;
+                    nonQuoted = false;
+                    fieldExists = false;
+                    strayQuote = false;
+                    rowStarted = false;
+                } else if (c == LF) {
+                    // the LF of a CRLF terminated row
+                } else {
+                    if (!fieldExists) {
+                        nonQuoted = true;
+                        fieldExists = true;
+                    }
+                    fieldLen++;
+                    rowStarted = true;
+                }
+
+                prevChar = c;
+            }
+        }
+
+        if (quoteOn) {
+            report.addProblem(ProblemType.UNTERMINATED_QUOTE, quoteLine,
+                "Quoted section of field " + fieldIdx + " isn't closed");
+        }
+        if (rowStarted) {
+            endRow(prevChar == localFieldSeparator || fieldExists);
+        }
+    }
+
+    private void endField() {
+        if (fieldLen > maxFieldSize) {
+            report.addProblem(ProblemType.FIELD_TOO_LONG, rowLine, "Field " + fieldIdx
+                + " has " + fieldLen + " characters (max " + maxFieldSize + ")");
+        }
+        fieldLen = 0;
+    }
+
+    private void endRow(final boolean lastFieldExists) {
+        final int fieldCount = fieldIdx + (lastFieldExists ? 1 : 0);
+        final boolean emptyRow = fieldIdx == 0 && fieldLen == 0;
+        endField();
+        fieldIdx = 0;
+
+        if (emptyRow && skipEmptyRows) {
+            return;
+        }
+        rowCount++;
+
+        if (firstRowFieldCount == -1) {
+            firstRowFieldCount = fieldCount;
+        } else if (fieldCount != firstRowFieldCount) {
+            report.addProblem(ProblemType.DIFFERENT_FIELD_COUNT, rowLine, "Row has "
+                + fieldCount + " fields, but first row has " + firstRowFieldCount + " fields");
+        }
+    }
+
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unsynchronized and thus high performance replacement for InputStreamReader.
+ *
+ * Only ASCII compatible character sets (UTF-8, US-ASCII and ISO-8859-1) are supported. Bytes
+ * in the ASCII range are widened directly to chars, ISO-8859-1 never needs a decoder at all.
+ * Only non-ASCII bytes of UTF-8 and US-ASCII input are passed to a {@link CharsetDecoder}
+ * (replacing malformed input, just like InputStreamReader does).
+ *
+ * A {@link MappedFileInputStream} isn't read - its mapped windows are decoded directly into the
+ * char buffer of the caller.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class FastInputStreamReader extends Reader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAX_ONE_BYTE_CHAR = 0x7F;
+    private static final int MAX_TWO_BYTE_CHAR = 0x7FF;
+
+    private final InputStream in;
+    private final MappedFileInputStream mapped;
+    private final CharsetDecoder decoder;
+    private final boolean utf8;
+    private final byte[] buf;
+
+    /**
+     * The byte buffer wrapping {@link #buf} - or the current window of the mapped file.
+     */
+    private ByteBuffer byteBuffer;
+    private CharBuffer charBuffer;
+    private int bufPos;
+    private int bufLen;
+    private int leftoverChar = -1;
+    private boolean eof;
+
+    /**
+     * The number of bytes consumed before the current content of the byte buffer.
+     */
+    private long bufOffset;
+
+    /**
+     * Becomes {@code false} if malformed input was replaced - the number of bytes of the
+     * characters read is unknown then.
+     */
+    private boolean bytePositionKnown = true;
+
+    FastInputStreamReader(final InputStream in, final Charset charset) {
+        if (!isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported charset: " + charset);
+        }
+        this.in = in;
+        mapped = in instanceof MappedFileInputStream ? (MappedFileInputStream) in : null;
+        buf = mapped == null ? new byte[BUFFER_SIZE] : null;
+        byteBuffer = buf != null ? ByteBuffer.wrap(buf) : null;
+        decoder = StandardCharsets.ISO_8859_1.equals(charset) ? null : charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        utf8 = StandardCharsets.UTF_8.equals(charset);
+    }
+
+    /**
+     * Checks if the given charset can be handled by this reader.
+     *
+     * @param charset the charset to check
+     * @return {@code true} if the charset is supported by this reader
+     */
+    static boolean isSupported(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+            || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * Converts a byte offset to a character offset - only possible for the beginning of the
+     * data or single byte charsets.
+     *
+     * @param charset the charset of the data
+     * @param byteOffset the byte offset
+     * @return the character offset or -1 if unknown
+     */
+    static long toCharOffset(final Charset charset, final long byteOffset) {
+        return byteOffset == 0 || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset) ? byteOffset : -1;
+    }
+
+    /**
+     * Returns the number of bytes of the characters consumed by the caller - the characters
+     * read so far minus the given characters (read but not consumed yet).
+     *
+     * @param unconsumed the buffer containing the characters not consumed yet
+     * @param off the position of the characters not consumed yet
+     * @param len the number of characters not consumed yet
+     * @return the number of bytes or -1 if unknown (because malformed input was replaced)
+     */
+    long getBytePosition(final char[] unconsumed, final int off, final int len) {
+        if (!bytePositionKnown) {
+            return -1;
+        }
+        // a left over char is the second half of a surrogate pair (4 bytes)
+        final int leftoverBytes = leftoverChar != -1 ? 2 : 0;
+        return bufOffset + bufPos - leftoverBytes - byteLength(unconsumed, off, len);
+    }
+
+    /**
+     * Calculates the number of bytes the given characters were decoded from - a char of a
+     * surrogate pair accounts for half of its 4 bytes.
+     */
+    private long byteLength(final char[] chars, final int off, final int len) {
+        if (!utf8) {
+            return len;
+        }
+        long length = len;
+        for (int i = off; i < off + len; i++) {
+            final char c = chars[i];
+            if (c > MAX_ONE_BYTE_CHAR) {
+                length++;
+            }
+            if (c > MAX_TWO_BYTE_CHAR && !Character.isSurrogate(c)) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (leftoverChar != -1) {
+            cbuf[off] = (char) leftoverChar;
+            leftoverChar = -1;
+            return 1;
+        }
+
+        return len == 1 ? readSingle(cbuf, off) : readChars(cbuf, off, len);
+    }
+
+    private int readSingle(final char[] cbuf, final int off) throws IOException {
+        // a supplementary character needs room for two chars
+        final char[] tmp = new char[2];
+        final int n = readChars(tmp, 0, 2);
+        if (n > 0) {
+            cbuf[off] = tmp[0];
+            if (n == 2) {
+                leftoverChar = tmp[1];
+            }
+            return 1;
+        }
+        return n;
+    }
+
+    private int readChars(final char[] cbuf, final int off, final int len) throws IOException {
+        if (bufPos == bufLen) {
+            fill();
+        }
+
+        int n = decode(cbuf, off, len);
+        while (n == 0 && !eof) {
+            // buffer empty or only an incomplete multi-byte sequence left
+            fill();
+            n = decode(cbuf, off, len);
+        }
+
+        return n > 0 ? n : -1;
+    }
+
+    private void fill() throws IOException {
+        if (eof) {
+            return;
+        }
+        if (mapped != null) {
+            fillMapped();
+            return;
+        }
+
+        // keep (incomplete) bytes not consumed by the decoder
+        final int remaining = bufLen - bufPos;
+        if (remaining > 0) {
+            System.arraycopy(buf, bufPos, buf, 0, remaining);
+        }
+        bufOffset += bufPos;
+        bufPos = 0;
+        bufLen = remaining;
+
+        final int cnt = in.read(buf, bufLen, buf.length - bufLen);
+        if (cnt < 0) {
+            eof = true;
+        } else {
+            bufLen += cnt;
+        }
+    }
+
+    /**
+     * Maps the next window - (incomplete) bytes not consumed by the decoder are mapped again as
+     * the beginning of that window.
+     */
+    private void fillMapped() throws IOException {
+        final int remaining = bufLen - bufPos;
+        bufOffset += bufPos;
+        bufPos = 0;
+
+        final ByteBuffer window = mapped.map(bufOffset, remaining + 1);
+        if (window != null) {
+            byteBuffer = window;
+            bufLen = window.limit();
+        } else {
+            bufLen = 0;
+        }
+        eof = bufLen == remaining;
+    }
+
+    /*
+     * ugly, performance optimized code begins
+     */
+    private int decode(final char[] cbuf, final int off, final int len) {
+        if (mapped != null) {
+            return decodeMapped(cbuf, off, len);
+        }
+
+        final byte[] localBuf = buf;
+        final int end = off + Math.min(len, bufLen - bufPos);
+        int localBufPos = bufPos;
+        int pos = off;
+
+        if (decoder == null) {
+            while (pos < end) {
+                cbuf[pos++] = (char) (localBuf[localBufPos++] & BYTE_MASK);
+            }
+        } else {
+            while (pos < end && localBuf[localBufPos] >= 0) {
+                cbuf[pos++] = (char) localBuf[localBufPos++];
+            }
+
+            if (pos < off + len && localBufPos < bufLen) {
+                // non-ASCII data - let the decoder handle the rest of the buffer
+                bufPos = localBufPos;
+                return pos - off + decodeNonAscii(cbuf, pos, off + len);
+            }
+        }
+
+        bufPos = localBufPos;
+        return pos - off;
+    }
+
+    private int decodeMapped(final char[] cbuf, final int off, final int len) {
+        final ByteBuffer window = byteBuffer;
+        final int end = off + Math.min(len, bufLen - bufPos);
+        int localBufPos = bufPos;
+        int pos = off;
+
+        if (decoder == null) {
+            while (pos < end) {
+                cbuf[pos++] = (char) (window.get(localBufPos++) & BYTE_MASK);
+            }
+        } else {
+            while (pos < end && window.get(localBufPos) >= 0) {
+                cbuf[pos++] = (char) window.get(localBufPos++);
+            }
+
+            if (pos < off + len && localBufPos < bufLen) {
+                // non-ASCII data - let the decoder handle the rest of the window
+                bufPos = localBufPos;
+                return pos - off + decodeNonAscii(cbuf, pos, off + len);
+            }
+        }
+
+        bufPos = localBufPos;
+        return pos - off;
+    }
+
+    private int decodeNonAscii(final char[] cbuf, final int start, final int end) {
+        final CharBuffer out = charBuffer(cbuf);
+        out.limit(end).position(start);
+        byteBuffer.limit(bufLen).position(bufPos);
+        decoder.decode(byteBuffer, out, eof);
+        if (eof && !byteBuffer.hasRemaining()) {
+            decoder.flush(out);
+        }
+
+        final int decodedBytes = byteBuffer.position() - bufPos;
+        final int decodedChars = out.position() - start;
+        if (decodedBytes != byteLength(cbuf, start, decodedChars)) {
+            // malformed input was replaced
+            bytePositionKnown = false;
+        }
+        bufPos = byteBuffer.position();
+        return decodedChars;
+    }
+
+    private CharBuffer charBuffer(final char[] cbuf) {
+        if (charBuffer == null || charBuffer.array() != cbuf) {
+            charBuffer = CharBuffer.wrap(cbuf);
+        }
+        charBuffer.clear();
+        return charBuffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * Non-blocking Reader of data that is passed in chunk by chunk. Unlike a regular Reader, it
+ * returns 0 (instead of blocking) if no data is available yet - {@link RowReader} suspends
+ * the current row then.
+ *
+ * Bytes are decoded immediately - an incomplete multi-byte sequence at the end of a chunk is
+ * held back until the next chunk arrives.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class FeedReader extends Reader {
+
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private final CharsetDecoder decoder;
+    private char[] buf = new char[INITIAL_CAPACITY];
+    private int pos;
+    private int len;
+    private ByteBuffer pending;
+    private boolean finished;
+
+    private FeedReader(final CharsetDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * @param charset the charset of the bytes passed in - or {@code null} if only chars are
+     *                passed in
+     * @return a new reader without any data
+     */
+    static FeedReader of(final Charset charset) {
+        return new FeedReader(charset == null ? null : charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    /**
+     * Decodes and appends the given bytes.
+     *
+     * @param data the bytes to append - completely consumed
+     */
+    void feed(final ByteBuffer data) {
+        checkNotFinished();
+        if (decoder == null) {
+            throw new IllegalStateException("No charset specified - only chars can be passed");
+        }
+
+        ByteBuffer in = data;
+        if (pending != null) {
+            // complete the multi-byte sequence of the previous chunk
+            in = ByteBuffer.allocate(pending.remaining() + data.remaining());
+            in.put(pending).put(data).flip();
+            pending = null;
+        }
+
+        decode(in, false);
+
+        if (in.hasRemaining()) {
+            pending = ByteBuffer.allocate(in.remaining());
+            pending.put(in).flip();
+        }
+    }
+
+    /**
+     * Appends the given chars.
+     *
+     * @param data the chars to append - completely consumed
+     */
+    void feed(final CharBuffer data) {
+        checkNotFinished();
+        final int cnt = data.remaining();
+        ensureCapacity(cnt);
+        data.get(buf, len, cnt);
+        len += cnt;
+    }
+
+    /**
+     * Signals the end of data - after all data is read, the end of data is returned.
+     */
+    void finish() {
+        checkNotFinished();
+        if (decoder != null) {
+            decode(pending != null ? pending : ByteBuffer.allocate(0), true);
+            pending = null;
+            ensureCapacity(INITIAL_CAPACITY);
+            final CharBuffer out = CharBuffer.wrap(buf, len, buf.length - len);
+            decoder.flush(out);
+            len = out.position();
+        }
+        finished = true;
+    }
+
+    private void checkNotFinished() {
+        if (finished) {
+            throw new IllegalStateException("End of data already signaled");
+        }
+    }
+
+    private void decode(final ByteBuffer in, final boolean endOfInput) {
+        CoderResult result = CoderResult.OVERFLOW;
+        while (result.isOverflow()) {
+            ensureCapacity((int) (in.remaining() * decoder.maxCharsPerByte()) + 1);
+            final CharBuffer out = CharBuffer.wrap(buf, len, buf.length - len);
+            result = decoder.decode(in, out, endOfInput);
+            len = out.position();
+        }
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (pos > 0) {
+            // discard the chars already read
+            System.arraycopy(buf, pos, buf, 0, len - pos);
+            len -= pos;
+            pos = 0;
+        }
+        if (len + additional > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + additional));
+        }
+    }
+
+    /**
+     * Reads the chars passed in so far.
+     *
+     * @return the number of chars read, 0 if no chars are available yet or -1 if the end of
+     * data is reached
+     */
+    @Override
+    public int read(final char[] cbuf, final int off, final int length) {
+        if (pos == len) {
+            return finished ? -1 : 0;
+        }
+        final int cnt = Math.min(length, len - pos);
+        System.arraycopy(buf, pos, cbuf, off, cnt);
+        pos += cnt;
+        return cnt;
+    }
+
+    @Override
+    public void close() {
+        buf = new char[0];
+        pos = 0;
+        len = 0;
+        pending = null;
+        finished = true;
+    }
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.math.BigDecimal;
+
+/**
+ * Parses field values directly from their characters - without creating a String.
+ *
+ * All methods behave exactly like their counterparts of the Java API (e.g.
+ * {@link Integer#parseInt(String)} or {@link Double#parseDouble(String)}). Common notations
+ * are parsed by a fast path, all other input is passed to the Java API.
+ *
+ * Use these methods together with {@link CsvHandler} in order to read numeric data without
+ * creating any objects.
+ *
+ * @author Oliver Siegmar
+ */
+public final class FieldParser {
+
+    private static final int RADIX = 10;
+    private static final String TRUE = "true";
+
+    /**
+     * Largest mantissa that is exactly representable by a double (2^53).
+     */
+    private static final long MAX_EXACT_MANTISSA = 0x20000000000000L;
+
+    /**
+     * Exponents larger than this are handled by the Java API anyway.
+     */
+    private static final int MAX_EXPONENT = 1000;
+
+    /**
+     * Powers of ten that are exactly representable by a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    private FieldParser() {
+    }
+
+    /**
+     * Parses an int like {@link Integer#parseInt(String)}.
+     *
+     * @param buf the buffer containing the field
+     * @param offset the position of the field within the buffer
+     * @param length the length of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a parsable int
+     */
+    public static int parseInt(final char[] buf, final int offset, final int length) {
+        checkRange(buf, offset, length);
+        return (int) parseLong(buf, offset, offset + length, Integer.MIN_VALUE,
+            Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses a long like {@link Long#parseLong(String)}.
+     *
+     * @param buf the buffer containing the field
+     * @param offset the position of the field within the buffer
+     * @param length the length of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a parsable long
+     */
+    public static long parseLong(final char[] buf, final int offset, final int length) {
+        checkRange(buf, offset, length);
+        return parseLong(buf, offset, offset + length, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses decimal ASCII digits (with an optional sign) - all other input is passed to
+     * the Java API.
+     */
+    private static long parseLong(final char[] buf, final int start, final int end,
+                                  final long min, final long max) {
+        final char first = start < end ? buf[start] : '0';
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ? start + 1 : start;
+        if (start == end || i == end) {
+            return parseLongSlow(buf, start, end, min);
+        }
+
+        // accumulate negatively as the negative range is larger
+        final long limit = negative ? min : -max;
+        final long multLimit = limit / RADIX;
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = buf[i] - '0';
+            if (digit < 0 || digit >= RADIX || result < multLimit
+                || result * RADIX < limit + digit) {
+                return parseLongSlow(buf, start, end, min);
+            }
+            result = result * RADIX - digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    private static long parseLongSlow(final char[] buf, final int start, final int end,
+                                      final long min) {
+        final String value = new String(buf, start, end - start);
+        return min == Integer.MIN_VALUE ? Integer.parseInt(value) : Long.parseLong(value);
+    }
+
+    /**
+     * Parses a double like {@link Double#parseDouble(String)} - the result is correctly
+     * rounded.
+     *
+     * @param buf the buffer containing the field
+     * @param offset the position of the field within the buffer
+     * @param length the length of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a parsable double
+     */
+    public static double parseDouble(final char[] buf, final int offset, final int length) {
+        checkRange(buf, offset, length);
+        final double value = parseDoubleFast(buf, offset, length);
+        return !Double.isNaN(value) ? value
+            : Double.parseDouble(new String(buf, offset, length));
+    }
+
+    /**
+     * Parses simple decimal notations that can be converted by a single (thus correctly
+     * rounded) floating point operation - as described by William D. Clinger in "How to Read
+     * Floating Point Numbers Accurately".
+     *
+     * @return the parsed value or NaN if the fast path isn't applicable - the field may
+     * still be a number in a notation only understood by {@link Double#parseDouble(String)}
+     */
+    static double parseDoubleFast(final char[] buf, final int offset, final int length) {
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = length > 0 && buf[i] == '-';
+        if (negative || length > 0 && buf[i] == '+') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            final char c = buf[i];
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            final int digit = c - '0';
+            if (digit < 0 || digit >= RADIX) {
+                break;
+            }
+            mantissa = mantissa * RADIX + digit;
+            if (mantissa > MAX_EXACT_MANTISSA) {
+                return Double.NaN;
+            }
+            digits++;
+            if (fraction) {
+                exponent--;
+            }
+        }
+
+        if (digits == 0) {
+            return Double.NaN;
+        }
+
+        if (i < end) {
+            final int explicitExponent = parseExponent(buf, i, end);
+            if (explicitExponent == Integer.MIN_VALUE) {
+                return Double.NaN;
+            }
+            exponent += explicitExponent;
+        }
+
+        final double value = scale(mantissa, exponent);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the exponent part (e.g. "e-5") of a double.
+     *
+     * @return the exponent or {@link Integer#MIN_VALUE} if the fast path isn't applicable
+     */
+    private static int parseExponent(final char[] buf, final int start, final int end) {
+        final char e = buf[start];
+        if (e != 'e' && e != 'E' || start + 1 == end) {
+            return Integer.MIN_VALUE;
+        }
+
+        int i = start + 1;
+        final char sign = buf[i];
+        final boolean negative = sign == '-';
+        if (negative || sign == '+') {
+            i++;
+        }
+        if (i == end) {
+            return Integer.MIN_VALUE;
+        }
+
+        int exponent = 0;
+        for (; i < end; i++) {
+            final int digit = buf[i] - '0';
+            if (digit < 0 || digit >= RADIX || exponent > MAX_EXPONENT) {
+                return Integer.MIN_VALUE;
+            }
+            exponent = exponent * RADIX + digit;
+        }
+
+        return negative ? -exponent : exponent;
+    }
+
+    private static double scale(final long mantissa, final int exponent) {
+        if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            return mantissa * POWERS_OF_TEN[exponent];
+        }
+        if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            return mantissa / POWERS_OF_TEN[-exponent];
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Parses a boolean like {@link Boolean#parseBoolean(String)}.
+     *
+     * @param buf the buffer containing the field
+     * @param offset the position of the field within the buffer
+     * @param length the length of the field
+     * @return {@code true} if the field is equal to "true" (ignoring case)
+     */
+    public static boolean parseBoolean(final char[] buf, final int offset, final int length) {
+        checkRange(buf, offset, length);
+        if (length != TRUE.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(buf[offset + i]) != TRUE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a BigDecimal like {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param buf the buffer containing the field
+     * @param offset the position of the field within the buffer
+     * @param length the length of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a parsable BigDecimal
+     */
+    public static BigDecimal parseBigDecimal(final char[] buf, final int offset,
+                                             final int length) {
+        return new BigDecimal(buf, offset, length);
+    }
+
+    private static void checkRange(final char[] buf, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > buf.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length
+                + ", buffer length: " + buf.length);
+        }
+    }
+
+}
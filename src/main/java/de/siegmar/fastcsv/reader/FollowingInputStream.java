@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * InputStream reading a continuously growing file (like {@code tail -f}) - on reaching the
+ * end of the file, it waits for new data by polling the size of the file instead of signaling
+ * the end of data.
+ *
+ * As the end of data is never signaled, a partially written row is not passed on before its
+ * line terminator arrives. Reading ends by closing the stream (from any thread) - a blocked
+ * read then fails with a {@link java.nio.channels.ClosedChannelException} - or by
+ * interrupting the reading thread.
+ *
+ * A file is polled (rather than watched via {@link java.nio.file.WatchService}) as watching
+ * is neither available for all file systems nor does it report changes of a single file
+ * reliably.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class FollowingInputStream extends InputStream {
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final FileChannel channel;
+    private final long pollInterval;
+    private final byte[] singleByte = new byte[1];
+
+    private FollowingInputStream(final FileChannel channel, final long pollInterval) {
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Opens a file for following.
+     *
+     * @param path the file to read
+     * @param start the position of the first byte to read
+     * @param pollInterval the number of milliseconds to wait before checking for new data
+     * @return the stream
+     * @throws IOException if the file cannot be opened
+     */
+    static FollowingInputStream open(final Path path, final long start,
+                                     final long pollInterval) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(start);
+        return new FollowingInputStream(channel, pollInterval);
+    }
+
+    @Override
+    public int read() throws IOException {
+        read(singleByte, 0, 1);
+        return singleByte[0] & BYTE_MASK;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        final ByteBuffer buf = ByteBuffer.wrap(b, off, len);
+        int cnt = channel.read(buf);
+        while (cnt <= 0) {
+            awaitData();
+            cnt = channel.read(buf);
+        }
+        return cnt;
+    }
+
+    private void awaitData() throws IOException {
+        if (channel.size() < channel.position()) {
+            throw new IOException("File has been truncated while following it");
+        }
+
+        try {
+            Thread.sleep(pollInterval);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for new data");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
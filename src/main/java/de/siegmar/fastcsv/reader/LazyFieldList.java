@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of the fields of a row - backed by a single char array containing the characters of
+ * all fields and an int array containing the end offset of each field. A String is only
+ * created when a field is accessed for the first time (and then retained).
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class LazyFieldList extends AbstractList<String> implements RandomAccess {
+
+    private static final String EMPTY = "";
+
+    private char[] chars;
+    private int[] ends;
+    private String[] values;
+    private int size;
+
+    LazyFieldList() {
+    }
+
+    /**
+     * @param chars the characters of all fields
+     * @param ends the end offset of each field within chars
+     * @param values already materialized fields (or {@code null} elements) - may be
+     *               {@code null} if no field is materialized yet
+     * @param size the number of fields
+     */
+    LazyFieldList(final char[] chars, final int[] ends, final String[] values, final int size) {
+        reset(chars, ends, values, size);
+    }
+
+    LazyFieldList reset(final char[] newChars, final int[] newEnds, final String[] newValues,
+                        final int newSize) {
+        chars = newChars;
+        ends = newEnds;
+        values = newValues;
+        size = newSize;
+        return this;
+    }
+
+    @Override
+    public String get(final int index) {
+        checkIndex(index);
+        String value = values != null ? values[index] : null;
+        if (value == null) {
+            final int start = start(index);
+            value = ends[index] > start ? new String(chars, start, ends[index] - start) : EMPTY;
+            if (values == null) {
+                values = new String[size];
+            }
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the characters of all fields - used to parse fields without materializing them
+     */
+    char[] getBuffer() {
+        return chars;
+    }
+
+    /**
+     * @param index the index of the field
+     * @return the position of the field within {@link #getBuffer()}
+     */
+    int getStart(final int index) {
+        checkIndex(index);
+        return start(index);
+    }
+
+    /**
+     * @param index the index of the field
+     * @return the length of the field
+     */
+    int getLength(final int index) {
+        checkIndex(index);
+        return ends[index] - start(index);
+    }
+
+    private int start(final int index) {
+        return index > 0 ? ends[index - 1] : 0;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
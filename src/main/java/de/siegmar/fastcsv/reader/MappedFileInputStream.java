@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * InputStream reading a file via memory mapping. Files larger than the window size are mapped
+ * window by window (a single mapping is limited to 2 GB).
+ *
+ * {@link FastInputStreamReader} doesn't read this stream but decodes the mapped windows (see
+ * {@link #map(long, int)}) directly - without copying the bytes to an intermediate buffer.
+ *
+ * Note that Java provides no way to unmap a file explicitly - the mapping is released
+ * when the buffer is garbage collected.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class MappedFileInputStream extends InputStream {
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final FileChannel channel;
+    private final int windowSize;
+    private final long start;
+    private final long end;
+    private long windowEnd;
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(final Path path, final int windowSize) throws IOException {
+        this(path, 0, Long.MAX_VALUE, windowSize);
+    }
+
+    /**
+     * Constructs a stream reading only the specified range of the file.
+     *
+     * @param path the file to read
+     * @param start the position of the first byte to read
+     * @param end the position after the last byte to read - limited to the file size
+     * @param windowSize the maximum size of a single mapping
+     * @throws IOException if the file cannot be opened
+     */
+    MappedFileInputStream(final Path path, final long start, final long end,
+                          final int windowSize) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be > 0");
+        }
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.windowSize = windowSize;
+        this.start = start;
+        this.end = Math.min(end, channel.size());
+        windowEnd = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextWindow() ? window.get() & BYTE_MASK : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextWindow()) {
+            return -1;
+        }
+        final int cnt = Math.min(len, window.remaining());
+        window.get(b, off, cnt);
+        return cnt;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0 || !nextWindow()) {
+            return 0;
+        }
+        final int cnt = (int) Math.min(n, window.remaining());
+        window.position(window.position() + cnt);
+        return cnt;
+    }
+
+    @Override
+    public int available() {
+        return window != null ? window.remaining() : 0;
+    }
+
+    /**
+     * Maps the next window if the current one is exhausted.
+     *
+     * @return {@code false} if the end of the file is reached
+     */
+    private boolean nextWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (windowEnd >= end) {
+            return false;
+        }
+
+        final long size = Math.min(windowSize, end - windowEnd);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, size);
+        windowEnd += size;
+        return true;
+    }
+
+    /**
+     * Maps a window starting at the given position - independent of the position of this
+     * stream.
+     *
+     * @param position the position relative to the start of this stream
+     * @param minSize the minimum size of the window (if the data isn't exhausted before)
+     * @return the mapped window or {@code null} if the end of the data is reached
+     * @throws IOException if the file cannot be mapped
+     */
+    ByteBuffer map(final long position, final int minSize) throws IOException {
+        final long from = start + position;
+        if (from >= end) {
+            return null;
+        }
+        final long size = Math.min(Math.max(windowSize, minSize), end - from);
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+}
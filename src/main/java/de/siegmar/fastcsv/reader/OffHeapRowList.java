@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * List of rows that stores its data in direct (off-heap) memory - rows are created as views
+ * on access.
+ *
+ * Every row is stored as a single record in one of the data segments:
+ * <pre>
+ * int fieldCount | int[fieldCount] fieldEnds | char[fieldEnds[fieldCount - 1]] chars
+ * </pre>
+ * The index segments contain the address of the record (segment number and position) and the
+ * original line number of every row.
+ *
+ * The list is filled by passing it as {@link CsvHandler} to a {@link CsvParser} - see
+ * {@link #read(CsvParser, boolean)}.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class OffHeapRowList extends AbstractList<CsvRow> implements RandomAccess, CsvHandler {
+
+    private static final int DATA_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final int INDEX_SEGMENT_ROWS = 1024 * 1024;
+    private static final int SEGMENT_SHIFT = 32;
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final int dataSegmentSize;
+    private final int indexSegmentRows;
+    private final List<ByteBuffer> dataSegments = new ArrayList<>();
+    private final List<ByteBuffer> indexSegments = new ArrayList<>();
+    private ByteBuffer dataSegment;
+    private Map<String, Integer> headerMap;
+    private int rowCount;
+
+    // the current row (before it's written)
+    private char[] chars = new char[INITIAL_CAPACITY * 2];
+    private int charPos;
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int fieldCount;
+
+    OffHeapRowList() {
+        this(DATA_SEGMENT_SIZE, INDEX_SEGMENT_ROWS);
+    }
+
+    /**
+     * @param dataSegmentSize the (minimum) size of a data segment in bytes
+     * @param indexSegmentRows the number of rows per index segment
+     */
+    OffHeapRowList(final int dataSegmentSize, final int indexSegmentRows) {
+        this.dataSegmentSize = dataSegmentSize;
+        this.indexSegmentRows = indexSegmentRows;
+    }
+
+    /**
+     * Reads all rows of the given parser into an off-heap container.
+     *
+     * @param csvParser the parser to read from
+     * @param containsHeader {@code true} if the data contains a header
+     * @return the container
+     * @throws IOException if an I/O error occurs
+     */
+    static CsvContainer read(final CsvParser csvParser, final boolean containsHeader)
+        throws IOException {
+
+        return new OffHeapRowList().readAll(csvParser, containsHeader);
+    }
+
+    CsvContainer readAll(final CsvParser csvParser, final boolean containsHeader)
+        throws IOException {
+
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = csvParser.nextRow(this);
+        }
+
+        headerMap = csvParser.getHeaderMap();
+        return new CsvContainer(containsHeader ? csvParser.getHeader() : null, this);
+    }
+
+    @Override
+    public void field(final char[] buf, final int offset, final int length,
+                      final boolean quoted) {
+        if (fieldCount == ends.length) {
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+        }
+        if (charPos + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charPos + length));
+        }
+        System.arraycopy(buf, offset, chars, charPos, length);
+        charPos += length;
+        ends[fieldCount++] = charPos;
+    }
+
+    @Override
+    public void endRow(final long originalLineNumber) {
+        final long address = writeRecord();
+
+        final int indexPos = rowCount % indexSegmentRows;
+        if (indexPos == 0) {
+            indexSegments.add(ByteBuffer.allocateDirect(indexSegmentRows * INDEX_ENTRY_SIZE));
+        }
+        final ByteBuffer index = indexSegments.get(indexSegments.size() - 1);
+        index.putLong(indexPos * INDEX_ENTRY_SIZE, address);
+        index.putLong(indexPos * INDEX_ENTRY_SIZE + Long.SIZE / Byte.SIZE, originalLineNumber);
+
+        rowCount++;
+        charPos = 0;
+        fieldCount = 0;
+    }
+
+    private long writeRecord() {
+        final int recordSize = (1 + fieldCount) * Integer.SIZE / Byte.SIZE
+            + charPos * Character.SIZE / Byte.SIZE;
+        if (dataSegment == null || dataSegment.remaining() < recordSize) {
+            dataSegment = ByteBuffer.allocateDirect(Math.max(dataSegmentSize, recordSize));
+            dataSegments.add(dataSegment);
+        }
+
+        final long address = (long) (dataSegments.size() - 1) << SEGMENT_SHIFT
+            | dataSegment.position();
+
+        final ByteBuffer data = dataSegment;
+        data.putInt(fieldCount);
+        data.asIntBuffer().put(ends, 0, fieldCount);
+        data.position(data.position() + fieldCount * Integer.SIZE / Byte.SIZE);
+        data.asCharBuffer().put(chars, 0, charPos);
+        data.position(data.position() + charPos * Character.SIZE / Byte.SIZE);
+        return address;
+    }
+
+    @Override
+    public CsvRow get(final int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+        }
+
+        final ByteBuffer indexSegment = indexSegments.get(index / indexSegmentRows);
+        final int indexPos = index % indexSegmentRows * INDEX_ENTRY_SIZE;
+        final long address = indexSegment.getLong(indexPos);
+        final long originalLineNumber =
+            indexSegment.getLong(indexPos + Long.SIZE / Byte.SIZE);
+
+        final ByteBuffer data = dataSegments.get((int) (address >>> SEGMENT_SHIFT));
+        return new CsvRow(originalLineNumber, headerMap,
+            new RowFields(data, (int) (address & POSITION_MASK)));
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * View of the fields of a single record. Only absolute (thread-safe) reads or reads of
+     * duplicates are used.
+     */
+    private static final class RowFields extends AbstractList<String> implements RandomAccess {
+
+        private final ByteBuffer data;
+        private final int position;
+        private final int size;
+
+        RowFields(final ByteBuffer data, final int position) {
+            this.data = data;
+            this.position = position;
+            size = data.getInt(position);
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+
+            final int intSize = Integer.SIZE / Byte.SIZE;
+            final int endsPos = position + intSize;
+            final int start = index > 0 ? data.getInt(endsPos + (index - 1) * intSize) : 0;
+            final int end = data.getInt(endsPos + index * intSize);
+
+            final int charsPos = endsPos + size * intSize;
+            final char[] value = new char[end - start];
+            // a duplicate doesn't touch the position of the shared buffer
+            final ByteBuffer view = data.duplicate();
+            view.position(charsPos + start * Character.SIZE / Byte.SIZE);
+            view.asCharBuffer().get(value);
+            return new String(value);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
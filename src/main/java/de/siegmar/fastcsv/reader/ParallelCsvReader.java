@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a file by parsing multiple chunks of it in parallel.
+ *
+ * <ol>
+ * <li>The file is split into chunks of roughly equal size.</li>
+ * <li>Every chunk is scanned (in parallel) for all possible start states by
+ * {@link RowBoundaryScanner} - combining these results sequentially reveals the actual
+ * state (e.g. within a quoted field) and the line number at the beginning of each chunk.</li>
+ * <li>Starting with the actual state, the first row boundary of each chunk is searched
+ * (in parallel).</li>
+ * <li>The rows between two boundaries are parsed (in parallel) by a regular
+ * {@link CsvParser} and stitched together in their original order.</li>
+ * </ol>
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class ParallelCsvReader {
+
+    /**
+     * Minimum size of a chunk - smaller files are not worth being read in parallel.
+     */
+    static final int MIN_CHUNK_SIZE = 1024 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final CsvReader csvReader;
+    private final Path path;
+    private final Charset charset;
+    private final int parallelism;
+    private final RowBoundaryScanner scanner;
+
+    private List<String> firstRow;
+    private List<String> header;
+    private long firstRowEnd;
+    private long firstRowLines;
+
+    ParallelCsvReader(final CsvReader csvReader, final Path path, final Charset charset,
+                      final int parallelism) {
+        this.csvReader = csvReader;
+        this.path = path;
+        this.charset = charset;
+        this.parallelism = parallelism;
+        scanner = new RowBoundaryScanner(csvReader.getFieldSeparator(),
+            csvReader.getTextDelimiter());
+    }
+
+    /**
+     * Checks if data can be read in parallel with the given settings.
+     *
+     * @param charset the charset of the data
+     * @param fieldSeparator the field separator
+     * @param textDelimiter the text delimiter
+     * @return {@code true} if parallel reading is supported
+     */
+    static boolean isSupported(final Charset charset, final char fieldSeparator,
+                               final char textDelimiter) {
+        return FastInputStreamReader.isSupported(charset)
+            && RowBoundaryScanner.isSupported(fieldSeparator, textDelimiter);
+    }
+
+    /**
+     * Returns the header fields - only available after {@link #read(long)}.
+     *
+     * @return the header fields or {@code null} if the file has no header
+     */
+    List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Reads all rows of the file.
+     *
+     * @param chunkSize the minimum size of a single chunk
+     * @return all rows of the file
+     * @throws IOException if an I/O error occurs
+     */
+    List<CsvRow> read(final long chunkSize) throws IOException {
+        try (final ParallelTasks tasks = new ParallelTasks(parallelism)) {
+            return parseChunks(tasks, split(tasks, chunkSize, parallelism * CHUNKS_PER_THREAD));
+        }
+    }
+
+    /**
+     * Splits the file into parsers of consecutive ranges of rows - each parser can be used by
+     * a different thread.
+     *
+     * @param chunkSize the minimum size of a single chunk
+     * @param maxChunks the maximum number of parsers
+     * @return the parsers in the order of the file - at least one
+     * @throws IOException if an I/O error occurs
+     */
+    List<CsvParser> split(final long chunkSize, final int maxChunks) throws IOException {
+        final List<Chunk> chunks;
+        try (final ParallelTasks tasks = new ParallelTasks(parallelism)) {
+            chunks = split(tasks, chunkSize, maxChunks);
+        }
+
+        final List<CsvParser> parsers = new ArrayList<>(chunks.size());
+        for (final Chunk chunk : chunks) {
+            if (chunk.start < chunk.end) {
+                parsers.add(openChunk(chunk, csvReader.isReuseRows()));
+            }
+        }
+        if (parsers.isEmpty()) {
+            parsers.add(openChunk(chunks.get(chunks.size() - 1), csvReader.isReuseRows()));
+        }
+        return parsers;
+    }
+
+    private List<Chunk> split(final ParallelTasks tasks, final long chunkSize,
+                              final int maxChunks) throws IOException {
+
+        readFirstRow();
+        final long fileSize = Files.size(path);
+        if (csvReader.isContainsHeader() && firstRow == null) {
+            return Collections.singletonList(new Chunk(fileSize, fileSize, 0));
+        }
+
+        final long dataSize = fileSize - firstRowEnd;
+        final int chunkCount = (int) Math.max(1, Math.min(dataSize / chunkSize, maxChunks));
+        final long[] chunkStarts = new long[chunkCount + 1];
+        for (int i = 0; i <= chunkCount; i++) {
+            chunkStarts[i] = firstRowEnd + dataSize * i / chunkCount;
+        }
+
+        return findChunks(tasks, chunkStarts);
+    }
+
+    /**
+     * Reads the first (non-empty) row in order to get the header and the field count.
+     */
+    private void readFirstRow() throws IOException {
+        if (!csvReader.isContainsHeader() && !csvReader.isErrorOnDifferentFieldCount()) {
+            return;
+        }
+
+        final long lineNo;
+        try (final CsvParser csvParser = new CsvParser(csvReader.newPathReader(path, charset),
+            csvReader.getFieldSeparator(), csvReader.getTextDelimiter(), false,
+            csvReader.isSkipEmptyRows(), false, false)) {
+
+            final CsvRow row = csvParser.nextRow();
+            firstRow = row != null ? row.getFields() : null;
+            lineNo = csvParser.getLineNo();
+        }
+
+        if (firstRow != null && csvReader.isContainsHeader()) {
+            final ColumnSelection columnSelection = csvReader.getColumnSelection();
+            header = columnSelection != null ? columnSelection.project(firstRow) : firstRow;
+
+            // the header is not part of any chunk
+            try (final InputStream in = csvReader.newPathInputStream(path, 0, Long.MAX_VALUE)) {
+                final RowBoundaryScanner.Boundary boundary = scanner.findBoundary(in, 0,
+                    RowBoundaryScanner.ROW_START, -1, lineNo);
+                firstRowEnd = boundary != null ? boundary.getPosition() : Files.size(path);
+                firstRowLines = lineNo;
+            }
+        }
+    }
+
+    /**
+     * Finds the first row boundary of each chunk and the number of lines before it.
+     */
+    private List<Chunk> findChunks(final ParallelTasks tasks, final long[] chunkStarts)
+        throws IOException {
+
+        final int chunkCount = chunkStarts.length - 1;
+
+        // transitions of all possible start states for every chunk (except the last)
+        final List<Future<ChunkTransitions>> transitionFutures = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount - 1; i++) {
+            final long start = chunkStarts[i];
+            final long end = chunkStarts[i + 1];
+            transitionFutures.add(tasks.submit(new Callable<ChunkTransitions>() {
+                @Override
+                public ChunkTransitions call() throws IOException {
+                    return scanTransitions(start, end);
+                }
+            }));
+        }
+
+        // resolve the actual state at the beginning of each chunk
+        final int[] states = new int[chunkCount];
+        final long[] lines = new long[chunkCount];
+        states[0] = RowBoundaryScanner.ROW_START;
+        lines[0] = firstRowLines;
+        for (int i = 1; i < chunkCount; i++) {
+            final ChunkTransitions transitions = ParallelTasks.get(transitionFutures.get(i - 1));
+            states[i] = transitions.states[states[i - 1]];
+            lines[i] = lines[i - 1] + transitions.lineBreaks;
+        }
+
+        // find the first row boundary of each chunk
+        final List<Future<RowBoundaryScanner.Boundary>> boundaryFutures =
+            new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            final long start = chunkStarts[i];
+            final int state = states[i];
+            boundaryFutures.add(tasks.submit(new Callable<RowBoundaryScanner.Boundary>() {
+                @Override
+                public RowBoundaryScanner.Boundary call() throws IOException {
+                    return scanBoundary(start, state);
+                }
+            }));
+        }
+
+        // a chunk ends where the next one begins
+        final Chunk[] chunks = new Chunk[chunkCount];
+        long end = chunkStarts[chunkCount];
+        for (int i = chunkCount - 1; i >= 0; i--) {
+            final RowBoundaryScanner.Boundary boundary = ParallelTasks.get(boundaryFutures.get(i));
+            final long start = boundary != null ? boundary.getPosition() : end;
+            final long chunkLines = boundary != null ? lines[i] + boundary.getLineBreaks() : 0;
+            chunks[i] = new Chunk(start, end, chunkLines);
+            end = start;
+        }
+
+        return Arrays.asList(chunks);
+    }
+
+    private ChunkTransitions scanTransitions(final long start, final long end)
+        throws IOException {
+
+        final int[] states = new int[RowBoundaryScanner.STATE_COUNT];
+        for (int s = 0; s < states.length; s++) {
+            states[s] = s;
+        }
+
+        try (final InputStream in = csvReader.newPathInputStream(path, Math.max(0, start - 1),
+            end)) {
+
+            final int prevByte = start > 0 ? in.read() : -1;
+            final long lineBreaks = scanner.transitions(in, states, prevByte);
+            return new ChunkTransitions(states, lineBreaks);
+        }
+    }
+
+    private RowBoundaryScanner.Boundary scanBoundary(final long start, final int state)
+        throws IOException {
+
+        try (final InputStream in = csvReader.newPathInputStream(path, Math.max(0, start - 1),
+            Long.MAX_VALUE)) {
+
+            final int prevByte = start > 0 ? in.read() : -1;
+            return scanner.findBoundary(in, start, state, prevByte, 0);
+        }
+    }
+
+    private List<CsvRow> parseChunks(final ParallelTasks tasks, final List<Chunk> chunks)
+        throws IOException {
+
+        final List<Future<List<CsvRow>>> futures = new ArrayList<>(chunks.size());
+        for (final Chunk chunk : chunks) {
+            futures.add(tasks.submit(new Callable<List<CsvRow>>() {
+                @Override
+                public List<CsvRow> call() throws IOException {
+                    return parseChunk(chunk);
+                }
+            }));
+        }
+
+        final List<List<CsvRow>> chunkRows = new ArrayList<>(chunks.size());
+        int rowCount = 0;
+        for (final Future<List<CsvRow>> future : futures) {
+            final List<CsvRow> rows = ParallelTasks.get(future);
+            rowCount += rows.size();
+            chunkRows.add(rows);
+        }
+
+        final List<CsvRow> rows = new ArrayList<>(rowCount);
+        for (final List<CsvRow> chunk : chunkRows) {
+            rows.addAll(chunk);
+        }
+        return rows;
+    }
+
+    private List<CsvRow> parseChunk(final Chunk chunk) throws IOException {
+
+        if (chunk.start >= chunk.end) {
+            return Collections.emptyList();
+        }
+
+        final List<CsvRow> rows = new ArrayList<>();
+        try (final CsvParser csvParser = openChunk(chunk, false)) {
+            CsvRow csvRow;
+            while ((csvRow = csvParser.nextRow()) != null) {
+                rows.add(csvRow);
+            }
+        }
+        return rows;
+    }
+
+    private CsvParser openChunk(final Chunk chunk, final boolean reuseRows) throws IOException {
+        final CsvParser csvParser = new CsvParser(csvReader.newPathReader(path, charset,
+            chunk.start, chunk.end), csvReader.getFieldSeparator(), csvReader.getTextDelimiter(),
+            csvReader.isContainsHeader(), csvReader.isSkipEmptyRows(),
+            csvReader.isErrorOnDifferentFieldCount(), reuseRows);
+
+        csvReader.configure(csvParser);
+        csvParser.initState(csvReader.isContainsHeader() ? firstRow : null, chunk.linesBefore,
+            firstRow != null ? firstRow.size() : -1,
+            FastInputStreamReader.toCharOffset(charset, chunk.start), chunk.start, false);
+        return csvParser;
+    }
+
+    private static final class Chunk {
+
+        private final long start;
+        private final long end;
+        private final long linesBefore;
+
+        Chunk(final long start, final long end, final long linesBefore) {
+            this.start = start;
+            this.end = end;
+            this.linesBefore = linesBefore;
+        }
+
+    }
+
+    private static final class ChunkTransitions {
+
+        private final int[] states;
+        private final long lineBreaks;
+
+        ChunkTransitions(final int[] states, final long lineBreaks) {
+            this.states = states;
+            this.lineBreaks = lineBreaks;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Tasks of a single parallel read. They are executed by a {@link ForkJoinPool} - its (daemon)
+ * threads are started on demand and don't keep the JVM alive if reading is abandoned.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class ParallelTasks implements Closeable {
+
+    private final ForkJoinPool pool;
+
+    ParallelTasks(final int parallelism) {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Executes the given task. Unlike {@link ForkJoinPool#submit(Callable)}, the returned
+     * future fails with the original exception of the task.
+     *
+     * @param task the task to execute
+     * @param <T> the result type of the task
+     * @return the future of the task
+     */
+    <T> Future<T> submit(final Callable<T> task) {
+        final FutureTask<T> future = new FutureTask<>(task);
+        pool.execute(future);
+        return future;
+    }
+
+    /**
+     * Waits for the result of the given future.
+     *
+     * @param future the future to wait for
+     * @param <T> the result type of the future
+     * @return the result of the future
+     * @throws IOException if the task failed with an {@link IOException} or waiting was
+     * interrupted
+     */
+    static <T> T get(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading in parallel", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+}
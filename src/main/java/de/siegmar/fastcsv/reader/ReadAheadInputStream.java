@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * InputStream that reads another stream ahead on a dedicated thread - the data is passed via
+ * a fixed number of recycled buffers, so reading blocks as soon as all buffers are filled.
+ * This way the (possibly slow) source and the consumer work in parallel, e.g. for inflating
+ * compressed data while the previous data is parsed.
+ *
+ * The source is only accessed (and closed) by the reading thread. Any failure of the source
+ * is passed on to the consumer.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class ReadAheadInputStream extends InputStream {
+
+    /**
+     * Default size of a single buffer.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Default number of buffers.
+     */
+    static final int DEFAULT_BUFFER_COUNT = 4;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final BlockingQueue<Buffer> free;
+    private final BlockingQueue<Buffer> filled;
+    private final Thread thread;
+    private final byte[] singleByte = new byte[1];
+    private Buffer current;
+    private boolean closed;
+
+    private ReadAheadInputStream(final InputStream source, final int bufferSize,
+                                 final int bufferCount) {
+        free = new ArrayBlockingQueue<>(bufferCount);
+        filled = new ArrayBlockingQueue<>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(new Buffer(bufferSize));
+        }
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                fill(source);
+            }
+        }, "fastcsv-read-ahead");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts reading the given stream ahead.
+     *
+     * @param source the stream to read - closed when this stream is closed
+     * @param bufferSize the size of a single buffer
+     * @param bufferCount the number of buffers
+     * @return the stream of the data read ahead
+     */
+    static ReadAheadInputStream start(final InputStream source, final int bufferSize,
+                                      final int bufferCount) {
+        final ReadAheadInputStream in =
+            new ReadAheadInputStream(source, bufferSize, bufferCount);
+        in.thread.start();
+        return in;
+    }
+
+    /**
+     * Starts inflating the given gzip compressed stream ahead.
+     *
+     * @param compressed the compressed stream - closed when this stream is closed
+     * @param bufferSize the size of a single buffer
+     * @param bufferCount the number of buffers
+     * @return the stream of the inflated data
+     * @throws IOException if the gzip header cannot be read
+     */
+    static ReadAheadInputStream gunzip(final InputStream compressed, final int bufferSize,
+                                       final int bufferCount) throws IOException {
+        final InputStream source;
+        try {
+            source = new GZIPInputStream(compressed, bufferSize);
+        } catch (final IOException e) {
+            compressed.close();
+            throw e;
+        }
+        return start(source, bufferSize, bufferCount);
+    }
+
+    private void fill(final InputStream source) {
+        try (final InputStream in = source) {
+            int len;
+            do {
+                final Buffer buffer = free.take();
+                try {
+                    len = in.read(buffer.data);
+                    buffer.len = len;
+                } catch (final IOException | RuntimeException | Error e) {
+                    buffer.error = e;
+                    buffer.len = -1;
+                    len = -1;
+                }
+                filled.put(buffer);
+            } while (len != -1);
+        } catch (final InterruptedException | IOException e) {
+            // closed by the consumer - nobody is interested in the data anymore
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & BYTE_MASK;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        while (current == null || current.pos == current.len) {
+            if (current != null) {
+                current.pos = 0;
+                free.add(current);
+            }
+            current = next();
+            if (current.len == -1) {
+                // keep returning the end of data (or the error)
+                final Buffer last = current;
+                current = null;
+                filled.add(last);
+                if (last.error != null) {
+                    throw rethrow(last.error);
+                }
+                return -1;
+            }
+        }
+
+        final int cnt = Math.min(len, current.len - current.pos);
+        System.arraycopy(current.data, current.pos, b, off, cnt);
+        current.pos += cnt;
+        return cnt;
+    }
+
+    /**
+     * Rethrows an unchecked failure of the source.
+     *
+     * @return the checked failure of the source
+     */
+    private static IOException rethrow(final Throwable error) {
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return (IOException) error;
+    }
+
+    private Buffer next() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        try {
+            return filled.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data");
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+    }
+
+    private static final class Buffer {
+
+        private final byte[] data;
+        private int pos;
+        private int len;
+        private Throwable error;
+
+        Buffer(final int size) {
+            data = new byte[size];
+        }
+
+    }
+
+}
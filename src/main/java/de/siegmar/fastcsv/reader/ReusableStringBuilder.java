@@ -73,6 +73,29 @@ final class ReusableStringBuilder {
         return pos > 0;
     }
 
+    /**
+     * Returns the internal buffer - only the first {@link #length()} characters are valid.
+     *
+     * @return the internal buffer
+     */
+    char[] getBuffer() {
+        return buf;
+    }
+
+    /**
+     * @return the number of characters in the buffer
+     */
+    int length() {
+        return pos;
+    }
+
+    /**
+     * Resets the buffer.
+     */
+    void reset() {
+        pos = 0;
+    }
+
     /**
      * Returns the string representation of the buffer and resets the buffer.
      *
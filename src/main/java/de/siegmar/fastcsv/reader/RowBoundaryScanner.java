@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Byte level state machine that finds row boundaries without materializing any field.
+ *
+ * The states mirror the quote handling of {@link RowReader} (text delimiters only start a
+ * quoted section at the beginning of a field or after a quoted section), so a row boundary
+ * found by this class is exactly where RowReader would start a new row. All structural
+ * characters have to be single byte ASCII characters - this is true for every ASCII
+ * compatible charset (UTF-8 never uses bytes below 0x80 within multi-byte sequences).
+ *
+ * As the state at an arbitrary position of the data is unknown, {@link #transitions} runs
+ * the state machine for every possible start state at once. Combining the results of
+ * consecutive chunks sequentially reveals the actual state at the beginning of each chunk.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class RowBoundaryScanner {
+
+    /** At the beginning of a row - this is the state at the beginning of the data. */
+    static final int ROW_START = 0;
+
+    /** At the beginning of a field (after a field separator). */
+    static final int FIELD_START = 1;
+
+    /** After a CR that terminated a row - a following LF is part of the line break. */
+    static final int AFTER_CR = 2;
+
+    /** Within a non-quoted field. */
+    static final int UNQUOTED = 3;
+
+    /** Within a quoted section of a field. */
+    static final int QUOTED = 4;
+
+    /** After a quoted section of a field. */
+    static final int QUOTED_END = 5;
+
+    static final int STATE_COUNT = 6;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BUFFER_SIZE = 65536;
+    private static final int WORD_SIZE = Long.SIZE / Byte.SIZE;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long CR_PATTERN = CR * ONES;
+    private static final long LF_PATTERN = LF * ONES;
+
+    private static final int CLASS_OTHER = 0;
+    private static final int CLASS_SEPARATOR = 1;
+    private static final int CLASS_DELIMITER = 2;
+    private static final int CLASS_CR = 3;
+    private static final int CLASS_LF = 4;
+    private static final int CLASS_COUNT = 5;
+
+    /*
+     * Next state indexed by (state * CLASS_COUNT + class). One line per state (in the order of
+     * the state constants), one column per class: other, separator, delimiter, CR, LF.
+     */
+    private static final int[] TRANSITIONS = {
+        UNQUOTED, FIELD_START, QUOTED, AFTER_CR, ROW_START,
+        UNQUOTED, FIELD_START, QUOTED, AFTER_CR, ROW_START,
+        UNQUOTED, FIELD_START, QUOTED, AFTER_CR, ROW_START,
+        UNQUOTED, FIELD_START, UNQUOTED, AFTER_CR, ROW_START,
+        QUOTED, QUOTED, QUOTED_END, QUOTED, QUOTED,
+        QUOTED_END, FIELD_START, QUOTED, AFTER_CR, ROW_START,
+    };
+
+    private final byte[] classes = new byte[BYTE_MASK + 1];
+    private final long separatorPattern;
+    private final long delimiterPattern;
+
+    RowBoundaryScanner(final char fieldSeparator, final char textDelimiter) {
+        if (!isSupported(fieldSeparator, textDelimiter)) {
+            throw new IllegalArgumentException("Only ASCII field separators and text delimiters "
+                + "are supported");
+        }
+        classes[fieldSeparator] = CLASS_SEPARATOR;
+        classes[textDelimiter] = CLASS_DELIMITER;
+        classes[CR] = CLASS_CR;
+        classes[LF] = CLASS_LF;
+        separatorPattern = fieldSeparator * ONES;
+        delimiterPattern = textDelimiter * ONES;
+    }
+
+    /**
+     * Checks if the given structural characters can be handled by this scanner.
+     *
+     * @param fieldSeparator the field separator
+     * @param textDelimiter the text delimiter
+     * @return {@code true} if both characters are single byte (ASCII) characters
+     */
+    static boolean isSupported(final char fieldSeparator, final char textDelimiter) {
+        return isAsciiNonLineBreak(fieldSeparator) && isAsciiNonLineBreak(textDelimiter)
+            && fieldSeparator != textDelimiter;
+    }
+
+    private static boolean isAsciiNonLineBreak(final char c) {
+        return c <= Byte.MAX_VALUE && c != CR && c != LF;
+    }
+
+    /**
+     * Runs the state machine for every possible start state at once and counts the line
+     * breaks like RowReader does: CR, LF and CRLF each count as one line break - regardless of
+     * being quoted or not.
+     *
+     * @param in the data to scan
+     * @param states the current state for each start state (indexed by start state) -
+     *               updated in place
+     * @param prevByte the byte before the data or -1 if data starts at the beginning
+     * @return the number of line breaks
+     * @throws IOException if an I/O error occurs
+     */
+    long transitions(final InputStream in, final int[] states, final int prevByte)
+        throws IOException {
+
+        final byte[] localClasses = classes;
+        final byte[] buf = new byte[BUFFER_SIZE];
+        final ByteBuffer words = ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+        final int[] positions = new int[BUFFER_SIZE];
+        long lineBreaks = 0;
+        long base = 0;
+        long lastPos = -1;
+        boolean afterCr = prevByte == CR;
+
+        int len;
+        while ((len = in.read(buf, 0, buf.length)) != -1) {
+            final int count = index(buf, words, len, positions);
+            for (int i = 0; i < count; i++) {
+                final long pos = base + positions[i];
+                final int cls = localClasses[buf[positions[i]] & BYTE_MASK];
+
+                // regular data in between - its transition is idempotent
+                if (pos != lastPos + 1) {
+                    applyTransition(states, CLASS_OTHER);
+                    afterCr = false;
+                }
+
+                if (cls == CLASS_CR || cls == CLASS_LF && !afterCr) {
+                    lineBreaks++;
+                }
+                applyTransition(states, cls);
+                afterCr = cls == CLASS_CR;
+                lastPos = pos;
+            }
+            base += len;
+        }
+
+        if (base != lastPos + 1) {
+            applyTransition(states, CLASS_OTHER);
+        }
+
+        return lineBreaks;
+    }
+
+    private static void applyTransition(final int[] states, final int cls) {
+        for (int s = 0; s < STATE_COUNT; s++) {
+            states[s] = TRANSITIONS[states[s] * CLASS_COUNT + cls];
+        }
+    }
+
+    /**
+     * Finds the next row boundary - the position where RowReader starts a new row.
+     *
+     * @param in the data to scan (starting at {@code start})
+     * @param start the position of the data
+     * @param state the state at the beginning of the data
+     * @param prevByte the byte before the data or -1 if data starts at the beginning
+     * @param minLineBreaks the minimum number of line breaks before the boundary
+     * @return the boundary or {@code null} if the end of data is reached before
+     * @throws IOException if an I/O error occurs
+     */
+    Boundary findBoundary(final InputStream in, final long start, final int state,
+                          final int prevByte, final long minLineBreaks) throws IOException {
+
+        final byte[] localClasses = classes;
+        final byte[] buf = new byte[BUFFER_SIZE];
+        final ByteBuffer words = ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+        final int[] positions = new int[BUFFER_SIZE];
+        final Cursor cursor = new Cursor(start, state, prevByte == CR, minLineBreaks);
+        long base = start;
+
+        int len;
+        while ((len = in.read(buf, 0, buf.length)) != -1) {
+            final int count = index(buf, words, len, positions);
+            for (int i = 0; i < count; i++) {
+                final long boundary = cursor.advance(base + positions[i],
+                    localClasses[buf[positions[i]] & BYTE_MASK]);
+                if (boundary != -1) {
+                    return new Boundary(boundary, cursor.lineBreaks);
+                }
+            }
+            base += len;
+        }
+
+        final long boundary = cursor.finish(base);
+        return boundary != -1 ? new Boundary(boundary, cursor.lineBreaks) : null;
+    }
+
+    /**
+     * Stage one of scanning: collects the positions of all structural bytes (field separator,
+     * text delimiter, CR and LF). Eight bytes are checked at once by handling them as a single
+     * long value (SWAR - SIMD within a register).
+     *
+     * @param buf the data
+     * @param words the data (wrapped in little endian order)
+     * @param len the length of the data
+     * @param positions the array to store the positions in
+     * @return the number of structural bytes
+     */
+    private int index(final byte[] buf, final ByteBuffer words, final int len,
+                      final int[] positions) {
+
+        int count = 0;
+        int i = 0;
+        for (; i + WORD_SIZE <= len; i += WORD_SIZE) {
+            final long word = words.getLong(i);
+            long mask = matches(word, separatorPattern) | matches(word, delimiterPattern)
+                | matches(word, CR_PATTERN) | matches(word, LF_PATTERN);
+
+            while (mask != 0) {
+                positions[count++] = i + Long.numberOfTrailingZeros(mask) / Byte.SIZE;
+                mask &= mask - 1;
+            }
+        }
+
+        for (; i < len; i++) {
+            if (classes[buf[i] & BYTE_MASK] != CLASS_OTHER) {
+                positions[count++] = i;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Compares all bytes of a word at once.
+     *
+     * @param word the bytes to compare
+     * @param pattern the byte to compare with - repeated to fill a word
+     * @return a word with the highest bit set for every matching byte
+     */
+    private static long matches(final long word, final long pattern) {
+        final long v = word ^ pattern;
+        return ~((v & LOW_BITS) + LOW_BITS | v | LOW_BITS);
+    }
+
+    /**
+     * Checks if a new row starts at a byte of the given class.
+     *
+     * @param state the state before the byte
+     * @param cls the class of the byte ({@link #CLASS_OTHER} for the end of data)
+     */
+    private static boolean isBoundary(final int state, final int cls) {
+        return state == ROW_START || state == AFTER_CR && cls != CLASS_LF;
+    }
+
+    /**
+     * Stage two of scanning for a single (known) start state: walks over the structural bytes
+     * only.
+     */
+    private static final class Cursor {
+
+        private final long minLineBreaks;
+        private int state;
+        private long lastPos;
+        private boolean afterCr;
+        private long lineBreaks;
+
+        Cursor(final long start, final int state, final boolean afterCr,
+               final long minLineBreaks) {
+            this.state = state;
+            this.afterCr = afterCr;
+            this.minLineBreaks = minLineBreaks;
+            lastPos = start - 1;
+        }
+
+        /**
+         * Advances to the next structural byte.
+         *
+         * @param pos the position of the structural byte
+         * @param cls the class of the structural byte
+         * @return the position of the boundary or -1 if no boundary was found up to pos
+         */
+        long advance(final long pos, final int cls) {
+            if (pos != lastPos + 1 && skipRegular()) {
+                return lastPos + 1;
+            }
+            if (isBoundary(state, cls) && lineBreaks >= minLineBreaks) {
+                return pos;
+            }
+
+            if (cls == CLASS_CR || cls == CLASS_LF && !afterCr) {
+                lineBreaks++;
+            }
+            state = TRANSITIONS[state * CLASS_COUNT + cls];
+            afterCr = cls == CLASS_CR;
+            lastPos = pos;
+            return -1;
+        }
+
+        /**
+         * Advances to the end of data.
+         *
+         * @param end the position after the last byte
+         * @return the position of the boundary or -1 if no boundary was found
+         */
+        long finish(final long end) {
+            if (end != lastPos + 1 && skipRegular()) {
+                return lastPos + 1;
+            }
+            return isBoundary(state, CLASS_OTHER) && lineBreaks >= minLineBreaks ? end : -1;
+        }
+
+        /**
+         * Skips regular data after the last structural byte.
+         *
+         * @return {@code true} if a row starts with the regular data
+         */
+        private boolean skipRegular() {
+            if (isBoundary(state, CLASS_OTHER) && lineBreaks >= minLineBreaks) {
+                return true;
+            }
+            state = TRANSITIONS[state * CLASS_COUNT + CLASS_OTHER];
+            afterCr = false;
+            return false;
+        }
+
+    }
+
+    /**
+     * A row boundary.
+     */
+    static final class Boundary {
+
+        private final long position;
+        private final long lineBreaks;
+
+        Boundary(final long position, final long lineBreaks) {
+            this.position = position;
+            this.lineBreaks = lineBreaks;
+        }
+
+        /**
+         * @return the position of the first byte of the row
+         */
+        long getPosition() {
+            return position;
+        }
+
+        /**
+         * @return the number of line breaks between the scan start and the boundary
+         */
+        long getLineBreaks() {
+            return lineBreaks;
+        }
+
+    }
+
+}
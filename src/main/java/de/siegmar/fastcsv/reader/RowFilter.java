@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Filter for rows that is evaluated on the characters of the fields - before any String or
+ * {@link CsvRow} is created. Rows that are rejected by the filter are skipped by
+ * {@link CsvParser#nextRow()} at the cost of tokenizing them only.
+ *
+ * <pre>
+ * csvParser.setRowFilter(RowFilter.equalTo("status", "ACTIVE")
+ *     .and(RowFilter.between("amount", 100, 1000)));
+ * </pre>
+ *
+ * Columns are referenced either by their name in the header or by their index (starting with
+ * 0). A field that doesn't exist in a row (because the row has fewer fields) doesn't match
+ * any condition. Instances of this class are immutable and can be shared by multiple parsers.
+ *
+ * @author Oliver Siegmar
+ * @see CsvParser#setRowFilter(RowFilter)
+ */
+public final class RowFilter {
+
+    private final Condition condition;
+
+    private RowFilter(final Condition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * Accepts rows whose field of the given column equals the given value.
+     *
+     * @param column the index of the column
+     * @param value the value to compare with - must not be {@code null}
+     * @return a new filter
+     */
+    public static RowFilter equalTo(final int column, final String value) {
+        return field(column, null, Operator.EQUAL_TO, value, 0, 0);
+    }
+
+    /**
+     * Accepts rows whose field of the given column equals the given value.
+     *
+     * @param column the name of the column
+     * @param value the value to compare with - must not be {@code null}
+     * @return a new filter
+     */
+    public static RowFilter equalTo(final String column, final String value) {
+        return field(-1, column, Operator.EQUAL_TO, value, 0, 0);
+    }
+
+    /**
+     * Accepts rows whose field of the given column starts with the given prefix.
+     *
+     * @param column the index of the column
+     * @param prefix the prefix - must not be {@code null}
+     * @return a new filter
+     */
+    public static RowFilter startsWith(final int column, final String prefix) {
+        return field(column, null, Operator.STARTS_WITH, prefix, 0, 0);
+    }
+
+    /**
+     * Accepts rows whose field of the given column starts with the given prefix.
+     *
+     * @param column the name of the column
+     * @param prefix the prefix - must not be {@code null}
+     * @return a new filter
+     */
+    public static RowFilter startsWith(final String column, final String prefix) {
+        return field(-1, column, Operator.STARTS_WITH, prefix, 0, 0);
+    }
+
+    /**
+     * Accepts rows whose field of the given column is a number within the given range
+     * (inclusive). Fields that are empty or not a number are rejected.
+     *
+     * @param column the index of the column
+     * @param min the minimum value
+     * @param max the maximum value
+     * @return a new filter
+     * @see FieldParser#parseDouble(char[], int, int)
+     */
+    public static RowFilter between(final int column, final double min, final double max) {
+        return field(column, null, Operator.BETWEEN, "", min, max);
+    }
+
+    /**
+     * Accepts rows whose field of the given column is a number within the given range
+     * (inclusive). Fields that are empty or not a number are rejected.
+     *
+     * @param column the name of the column
+     * @param min the minimum value
+     * @param max the maximum value
+     * @return a new filter
+     * @see FieldParser#parseDouble(char[], int, int)
+     */
+    public static RowFilter between(final String column, final double min, final double max) {
+        return field(-1, column, Operator.BETWEEN, "", min, max);
+    }
+
+    private static RowFilter field(final int index, final String name, final Operator operator,
+                                   final String value, final double min, final double max) {
+        if (name == null && index < 0) {
+            throw new IllegalArgumentException("column index must be >= 0");
+        }
+        Objects.requireNonNull(value, "value must not be null");
+        return new RowFilter(new FieldCondition(index, name, -1, operator,
+            value.toCharArray(), min, max));
+    }
+
+    /**
+     * @param other the filter that also has to accept a row - must not be {@code null}
+     * @return a new filter that accepts rows that are accepted by both filters
+     */
+    public RowFilter and(final RowFilter other) {
+        Objects.requireNonNull(other, "other must not be null");
+        return new RowFilter(new Junction(true, condition, other.condition));
+    }
+
+    /**
+     * @param other the filter that alternatively has to accept a row - must not be
+     *              {@code null}
+     * @return a new filter that accepts rows that are accepted by any of both filters
+     */
+    public RowFilter or(final RowFilter other) {
+        Objects.requireNonNull(other, "other must not be null");
+        return new RowFilter(new Junction(false, condition, other.condition));
+    }
+
+    /**
+     * @return a new filter that accepts the rows that are rejected by this filter
+     */
+    public RowFilter negate() {
+        return new RowFilter(new Negation(condition));
+    }
+
+    /**
+     * Resolves the columns of this filter to the positions of the fields within a row.
+     *
+     * @param headerMap the positions of the fields by header name - {@code null} if the data
+     *                  contains no header
+     * @param selectedColumns the indexes of the selected columns - {@code null} if all columns
+     *                        are read
+     * @return the resolved filter
+     * @throws IOException if the header doesn't contain a column
+     */
+    RowFilter bind(final Map<String, Integer> headerMap, final int[] selectedColumns)
+        throws IOException {
+        return new RowFilter(condition.bind(headerMap, selectedColumns));
+    }
+
+    /**
+     * Evaluates this (resolved) filter.
+     *
+     * @param line the current row - with lazy fields
+     * @return {@code true} if the row is accepted
+     */
+    boolean accept(final RowReader.Line line) {
+        return condition.test(line);
+    }
+
+    private enum Operator {
+        EQUAL_TO, STARTS_WITH, BETWEEN
+    }
+
+    private interface Condition {
+
+        Condition bind(Map<String, Integer> headerMap, int[] selectedColumns) throws IOException;
+
+        boolean test(RowReader.Line line);
+
+    }
+
+    private static final class FieldCondition implements Condition {
+
+        private final int index;
+        private final String name;
+        private final int position;
+        private final Operator operator;
+        private final char[] value;
+        private final double min;
+        private final double max;
+
+        FieldCondition(final int index, final String name, final int position,
+                       final Operator operator, final char[] value, final double min,
+                       final double max) {
+            this.index = index;
+            this.name = name;
+            this.position = position;
+            this.operator = operator;
+            this.value = value;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Condition bind(final Map<String, Integer> headerMap,
+                              final int[] selectedColumns) throws IOException {
+            return new FieldCondition(index, name, resolve(headerMap, selectedColumns),
+                operator, value, min, max);
+        }
+
+        private int resolve(final Map<String, Integer> headerMap, final int[] selectedColumns)
+            throws IOException {
+
+            if (name != null) {
+                if (headerMap == null) {
+                    throw new IllegalStateException("Columns can only be filtered by name if "
+                        + "the data contains a header");
+                }
+                final Integer pos = headerMap.get(name);
+                if (pos == null) {
+                    throw new IOException("Header does not contain column: " + name);
+                }
+                return pos;
+            }
+
+            final int pos = selectedColumns != null
+                ? Arrays.binarySearch(selectedColumns, index) : index;
+            if (pos < 0) {
+                throw new IllegalStateException("Column " + index + " is not selected");
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean test(final RowReader.Line line) {
+            if (position >= line.getSize()) {
+                return false;
+            }
+
+            final char[] chars = line.getChars();
+            final int start = line.getFieldStart(position);
+            final int length = line.getFieldEnd(position) - start;
+            if (operator == Operator.BETWEEN) {
+                return inRange(chars, start, length);
+            }
+            return (operator == Operator.EQUAL_TO ? length == value.length : length >= value.length)
+                && regionMatches(chars, start);
+        }
+
+        private boolean regionMatches(final char[] chars, final int start) {
+            for (int i = 0; i < value.length; i++) {
+                if (chars[start + i] != value[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean inRange(final char[] chars, final int start, final int length) {
+            // NaN (not a number) is never in range
+            final double number = parseNumber(chars, start, length);
+            return number >= min && number <= max;
+        }
+
+        /**
+         * Parses common notations without exceptions and objects - only fields that still
+         * may be a number (e.g. hexadecimal, padded or very long numbers) are passed to the
+         * Java API.
+         *
+         * @return the parsed value or NaN if the field isn't a number
+         */
+        private static double parseNumber(final char[] chars, final int start,
+                                          final int length) {
+            final double number = FieldParser.parseDoubleFast(chars, start, length);
+            if (!Double.isNaN(number) || !mayBeNumber(chars, start, start + length)) {
+                return number;
+            }
+            try {
+                return Double.parseDouble(new String(chars, start, length));
+            } catch (final NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+        private static boolean mayBeNumber(final char[] chars, final int start, final int end) {
+            int i = start;
+            while (i < end && chars[i] <= ' ') {
+                i++;
+            }
+            if (i < end && (chars[i] == '+' || chars[i] == '-')) {
+                i++;
+            }
+            if (i == end) {
+                return false;
+            }
+            final char c = chars[i];
+            return c >= '0' && c <= '9' || c == '.' || c == 'I';
+        }
+
+    }
+
+    private static final class Junction implements Condition {
+
+        private final boolean all;
+        private final Condition first;
+        private final Condition second;
+
+        Junction(final boolean all, final Condition first, final Condition second) {
+            this.all = all;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Condition bind(final Map<String, Integer> headerMap,
+                              final int[] selectedColumns) throws IOException {
+            return new Junction(all, first.bind(headerMap, selectedColumns),
+                second.bind(headerMap, selectedColumns));
+        }
+
+        @Override
+        public boolean test(final RowReader.Line line) {
+            return all
+                ? first.test(line) && second.test(line)
+                : first.test(line) || second.test(line);
+        }
+
+    }
+
+    private static final class Negation implements Condition {
+
+        private final Condition condition;
+
+        Negation(final Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        public Condition bind(final Map<String, Integer> headerMap,
+                              final int[] selectedColumns) throws IOException {
+            return new Negation(condition.bind(headerMap, selectedColumns));
+        }
+
+        @Override
+        public boolean test(final RowReader.Line line) {
+            return !condition.test(line);
+        }
+
+    }
+
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Index of the byte offsets and line numbers of every n-th row of a file - persisted next to
+ * the file.
+ *
+ * The index is built by reading all rows once - before every n-th row, the checkpoint of the
+ * parser (see {@link CsvParser#getCheckpoint()}) provides the byte offset, the line number and
+ * whether the previous row was terminated by a CR (thus a subsequent LF belongs to that line
+ * break).
+ *
+ * The index stores the size and modification time of the file as well as the settings of
+ * the reader - an index not matching the file or the settings is ignored.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class RowIndex {
+
+    /**
+     * Suffix of the index file (appended to the name of the CSV file).
+     */
+    static final String FILE_SUFFIX = ".idx";
+
+    /**
+     * Handler that ignores all rows - used for skipping rows.
+     */
+    static final CsvHandler SKIPPING_HANDLER = new CsvHandler() {
+        @Override
+        public void field(final char[] buf, final int offset, final int length,
+                          final boolean quoted) {
+            // skipped
+        }
+
+        @Override
+        public void endRow(final long originalLineNumber) {
+            // skipped
+        }
+    };
+
+    private static final int MAGIC = 0x46435349;
+    private static final int VERSION = 2;
+    private static final int INT_SIZE = Integer.SIZE / Byte.SIZE;
+    private static final int LONG_SIZE = Long.SIZE / Byte.SIZE;
+    private static final int HEADER_SIZE = 5 * INT_SIZE + 2 * LONG_SIZE;
+    private static final int ENTRY_SIZE = 2 * LONG_SIZE + 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String settings;
+    private final long dataSize;
+    private final long dataLastModified;
+    private final int rowInterval;
+    private final int size;
+    private final long[] offsets;
+    private final long[] lineNumbers;
+    private final boolean[] afterCarriageReturn;
+
+    private RowIndex(final String settings, final long dataSize, final long dataLastModified,
+                     final int rowInterval, final long[] offsets, final long[] lineNumbers,
+                     final boolean[] afterCarriageReturn) {
+        this.settings = settings;
+        this.dataSize = dataSize;
+        this.dataLastModified = dataLastModified;
+        this.rowInterval = rowInterval;
+        size = offsets.length;
+        this.offsets = offsets;
+        this.lineNumbers = lineNumbers;
+        this.afterCarriageReturn = afterCarriageReturn;
+    }
+
+    /**
+     * @param path the CSV file
+     * @return the index file of the given CSV file
+     */
+    static Path indexPathOf(final Path path) {
+        return path.resolveSibling(path.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Builds the index of a file.
+     *
+     * @param csvParser the parser reading the entire file
+     * @param path the file
+     * @param settings the settings of the reader (see {@link #load(Path, String)})
+     * @param rowInterval the number of rows between two entries
+     * @return the index
+     * @throws IOException if an I/O error occurs
+     */
+    static RowIndex build(final CsvParser csvParser, final Path path, final String settings,
+                          final int rowInterval) throws IOException {
+
+        final long dataSize = Files.size(path);
+        final long dataLastModified = Files.getLastModifiedTime(path).toMillis();
+
+        final EntryCollector collector = new EntryCollector();
+        long row = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            final CsvCheckpoint checkpoint = row++ % rowInterval == 0 && collector.positionKnown
+                ? csvParser.getCheckpoint() : null;
+            hasMore = csvParser.nextRow(SKIPPING_HANDLER);
+            if (hasMore && checkpoint != null) {
+                collector.add(checkpoint);
+            }
+        }
+
+        return new RowIndex(settings, dataSize, dataLastModified, rowInterval,
+            Arrays.copyOf(collector.offsets, collector.size),
+            Arrays.copyOf(collector.lineNumbers, collector.size),
+            Arrays.copyOf(collector.afterCarriageReturn, collector.size));
+    }
+
+    /**
+     * Writes this index to the index file of the given CSV file.
+     *
+     * @param path the CSV file
+     * @throws IOException if an I/O error occurs
+     */
+    void write(final Path path) throws IOException {
+        final byte[] settingsBytes = settings.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + settingsBytes.length
+            + size * ENTRY_SIZE);
+
+        buf.putInt(MAGIC).putInt(VERSION).putInt(settingsBytes.length).put(settingsBytes);
+        buf.putLong(dataSize).putLong(dataLastModified).putInt(rowInterval).putInt(size);
+        for (int i = 0; i < size; i++) {
+            buf.putLong(offsets[i]).putLong(lineNumbers[i])
+                .put(afterCarriageReturn[i] ? (byte) 1 : (byte) 0);
+        }
+
+        Files.write(indexPathOf(path), buf.array());
+    }
+
+    /**
+     * Loads the index of the given CSV file.
+     *
+     * @param path the CSV file
+     * @param settings the settings of the reader - the index is only valid for the settings it
+     *                 was built with
+     * @return the index or {@code null} if no (valid) index exists
+     * @throws IOException if an I/O error occurs
+     */
+    static RowIndex load(final Path path, final String settings) throws IOException {
+        try {
+            return read(ByteBuffer.wrap(Files.readAllBytes(indexPathOf(path))), path, settings);
+        } catch (final NoSuchFileException | BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    private static RowIndex read(final ByteBuffer buf, final Path path, final String settings)
+        throws IOException {
+
+        final byte[] settingsBytes = settings.getBytes(StandardCharsets.UTF_8);
+        if (buf.getInt() != MAGIC || buf.getInt() != VERSION
+            || !Arrays.equals(settingsBytes, getBytes(buf, buf.getInt()))) {
+            return null;
+        }
+
+        final long dataSize = buf.getLong();
+        final long dataLastModified = buf.getLong();
+        if (dataSize != Files.size(path)
+            || dataLastModified != Files.getLastModifiedTime(path).toMillis()) {
+            return null;
+        }
+
+        final int rowInterval = buf.getInt();
+        final int size = buf.getInt();
+        final long[] offsets = new long[size];
+        final long[] lineNumbers = new long[size];
+        final boolean[] afterCarriageReturn = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = buf.getLong();
+            lineNumbers[i] = buf.getLong();
+            afterCarriageReturn[i] = buf.get() != 0;
+        }
+
+        return new RowIndex(settings, dataSize, dataLastModified, rowInterval, offsets,
+            lineNumbers, afterCarriageReturn);
+    }
+
+    private static byte[] getBytes(final ByteBuffer buf, final int length) {
+        final byte[] bytes = new byte[Math.min(length, buf.remaining())];
+        buf.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @param row the index of a row (starting with 0)
+     * @return the last entry at or before the given row - or -1 if no such entry exists
+     */
+    int entryOfRow(final long row) {
+        return (int) Math.min(row / rowInterval, size - 1);
+    }
+
+    /**
+     * @param lineNumber a line number (starting with 1)
+     * @return the last entry at or before the given line - or -1 if no such entry exists
+     */
+    int entryOfLine(final long lineNumber) {
+        final int idx = Arrays.binarySearch(lineNumbers, 0, size, lineNumber);
+        return idx >= 0 ? idx : -idx - 2;
+    }
+
+    /**
+     * @return the index of the row (starting with 0) of the given entry
+     */
+    long getRow(final int entry) {
+        return (long) entry * rowInterval;
+    }
+
+    /**
+     * @return the byte offset of the row of the given entry
+     */
+    long getOffset(final int entry) {
+        return offsets[entry];
+    }
+
+    /**
+     * @return the line number following the row before the given entry - the row of the entry
+     * begins at this line (or after skipped empty lines)
+     */
+    long getLineNumber(final int entry) {
+        return lineNumbers[entry];
+    }
+
+    /**
+     * @return {@code true} if the row before the given entry was terminated by a CR
+     */
+    boolean isAfterCarriageReturn(final int entry) {
+        return afterCarriageReturn[entry];
+    }
+
+    /**
+     * Collects the position of every n-th row.
+     */
+    private static final class EntryCollector {
+
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private long[] lineNumbers = new long[INITIAL_CAPACITY];
+        private boolean[] afterCarriageReturn = new boolean[INITIAL_CAPACITY];
+        private int size;
+        private boolean positionKnown = true;
+
+        void add(final CsvCheckpoint checkpoint) {
+            if (checkpoint.getByteOffset() == -1) {
+                // malformed input - later rows are reached by skipping from the last entry
+                positionKnown = false;
+                return;
+            }
+
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lineNumbers = Arrays.copyOf(lineNumbers, size * 2);
+                afterCarriageReturn = Arrays.copyOf(afterCarriageReturn, size * 2);
+            }
+            offsets[size] = checkpoint.getByteOffset();
+            lineNumbers[size] = checkpoint.getLineNumber() + 1;
+            afterCarriageReturn[size] = checkpoint.isAfterCarriageReturn();
+            size++;
+        }
+
+    }
+
+}
@@ -19,7 +19,10 @@ package de.siegmar.fastcsv.reader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
 
 final class RowReader implements Closeable {
 
@@ -32,65 +35,226 @@ final class RowReader implements Closeable {
     private static final int FIELD_MODE_NON_QUOTED = 2;
     private static final int FIELD_MODE_QUOTE_ON = 4;
     private static final int FIELD_MODE_QUOTED_EMPTY = 8;
+    private static final int FIELD_MODE_SKIPPED_CONTENT = 16;
+    private static final int FIELD_MODE_EXISTING = FIELD_MODE_QUOTED_EMPTY
+        | FIELD_MODE_SKIPPED_CONTENT;
 
     private final Reader reader;
     private final char fieldSeparator;
     private final char textDelimiter;
     private final char[] buf = new char[BUFFER_SIZE];
+    private final boolean[] structuralChars;
     private final Line line = new Line(32);
     private final ReusableStringBuilder currentField = new ReusableStringBuilder(512);
+    private int[] selectedColumns;
+    private StructuralIndex structuralIndex;
+    private long bufOffset;
     private int bufPos;
     private int bufLen;
+    private long rowStart;
     private int prevChar = -1;
     private int copyStart;
     private boolean finished;
 
+    // state of a row that couldn't be completed due to missing data (push parsing)
+    private boolean suspended;
+    private int suspendedFieldMode;
+    private int suspendedLines;
+    private int suspendedFieldIdx;
+
+    // result of the row skipped last
+    private int skippedLines;
+    private boolean skippedRowEmpty;
+
     RowReader(final Reader reader, final char fieldSeparator, final char textDelimiter) {
         this.reader = reader;
         this.fieldSeparator = fieldSeparator;
         this.textDelimiter = textDelimiter;
+
+        structuralChars = new boolean[Math.max(Math.max(fieldSeparator, textDelimiter), CR) + 1];
+        structuralChars[fieldSeparator] = true;
+        structuralChars[textDelimiter] = true;
+        structuralChars[CR] = true;
+        structuralChars[LF] = true;
+    }
+
+    /**
+     * Restricts the fields passed to the sink to the given columns - the fields of all other
+     * columns are passed via {@link FieldSink#skippedField(boolean)}.
+     *
+     * @param columns the indexes of the selected columns in ascending order or {@code null} for
+     *                all columns
+     */
+    void setSelectedColumns(final int[] columns) {
+        selectedColumns = columns;
+    }
+
+    /**
+     * Deduplicates the strings of the given columns via caches.
+     *
+     * @param columns the indexes of the cached columns in ascending order
+     * @param caches the caches of the columns - in the same order
+     */
+    void setStringCaches(final int[] columns, final StringCache[] caches) {
+        line.setStringCaches(columns, caches);
+    }
+
+    /**
+     * Reads rows via a structural index of the read buffer - see {@link StructuralIndex}.
+     * Ignored if the field separator or text delimiter isn't an ASCII character.
+     *
+     * @param structuralIndexing {@code true} for reading rows via a structural index
+     */
+    void setStructuralIndexing(final boolean structuralIndexing) {
+        structuralIndex = structuralIndexing
+            && StructuralIndex.isSupported(fieldSeparator, textDelimiter)
+            ? new StructuralIndex(fieldSeparator, textDelimiter, BUFFER_SIZE) : null;
+    }
+
+    /**
+     * Creates the Strings of fields only when they're accessed.
+     *
+     * @param lazyFields {@code true} for lazy materialization
+     */
+    void setLazyFields(final boolean lazyFields) {
+        line.setLazy(lazyFields);
+    }
+
+    /**
+     * Continues reading data that doesn't start at the beginning of a CSV file.
+     *
+     * @param position the number of characters before the data
+     * @param afterCarriageReturn {@code true} if the data follows a CR (a subsequent LF belongs
+     *                            to the previous row)
+     */
+    void resume(final long position, final boolean afterCarriageReturn) {
+        bufOffset = position - bufPos;
+        prevChar = afterCarriageReturn ? CR : -1;
+    }
+
+    /**
+     * @return the number of characters consumed so far
+     */
+    long getPosition() {
+        return bufOffset + bufPos;
+    }
+
+    /**
+     * @return the number of bytes consumed so far - or -1 if unknown (only data decoded by
+     * {@link FastInputStreamReader} is tracked)
+     */
+    long getBytePosition() {
+        return reader instanceof FastInputStreamReader
+            ? ((FastInputStreamReader) reader).getBytePosition(buf, bufPos, bufLen - bufPos)
+            : -1;
+    }
+
+    /**
+     * @return the position of the first character of the row read last
+     */
+    long getRowStart() {
+        return rowStart;
+    }
+
+    /**
+     * @return {@code true} if the row read last was terminated by a CR
+     */
+    boolean isAfterCarriageReturn() {
+        return prevChar == CR;
+    }
+
+    Line readLine() throws IOException {
+        final Line localLine = suspended ? line : line.reset();
+        localLine.setLines(readLine(localLine));
+        return localLine;
     }
 
     /*
      * ugly, performance optimized code begins
      */
-    Line readLine() throws IOException {
+
+    /**
+     * Reads the next row and passes its fields to the given sink.
+     *
+     * If the reader returns no data (instead of blocking until data is available - see
+     * {@link FeedReader}), the row is suspended and the next invocation continues it with the
+     * same sink.
+     *
+     * @param sink the sink to pass the fields to
+     * @return the number of lines the row is made of
+     * @throws IOException if an I/O error occurs
+     */
+    int readLine(final FieldSink sink) throws IOException {
+        if (structuralIndex != null && !suspended) {
+            final int indexedLines = readIndexedLine(sink);
+            if (indexedLines != 0) {
+                return indexedLines;
+            }
+        }
+
         // get fields local for higher performance
-        final Line localLine = line.reset();
         final ReusableStringBuilder localCurrentField = currentField;
         final char[] localBuf = buf;
+        final int[] localSelectedColumns = selectedColumns;
         int localBufPos = bufPos;
         int localPrevChar = prevChar;
         int localCopyStart = copyStart;
 
         int copyLen = 0;
-        int fieldMode = FIELD_MODE_RESET;
-        int lines = 1;
+        int fieldMode;
+        int lines;
+        int fieldIdx;
+        if (suspended) {
+            suspended = false;
+            fieldMode = suspendedFieldMode;
+            lines = suspendedLines;
+            fieldIdx = suspendedFieldIdx;
+        } else {
+            rowStart = bufOffset + localBufPos;
+            fieldMode = FIELD_MODE_RESET;
+            lines = 1;
+            fieldIdx = 0;
+        }
+        boolean selected = isSelected(localSelectedColumns, fieldIdx);
 
         while (true) {
             if (bufLen == localBufPos) {
                 // end of buffer
 
                 if (copyLen > 0) {
-                    localCurrentField.append(localBuf, localCopyStart, copyLen);
+                    if (selected) {
+                        localCurrentField.append(localBuf, localCopyStart, copyLen);
+                    } else {
+                        fieldMode |= FIELD_MODE_SKIPPED_CONTENT;
+                    }
                 }
+                bufOffset += localBufPos;
+                localCopyStart = localBufPos = copyLen = 0;
                 bufLen = reader.read(localBuf, 0, localBuf.length);
 
                 if (bufLen < 0) {
                     // end of data
                     finished = true;
+                    bufLen = 0;
 
                     if (localPrevChar == fieldSeparator
-                            || (fieldMode & FIELD_MODE_QUOTED_EMPTY) == FIELD_MODE_QUOTED_EMPTY
+                            || (fieldMode & FIELD_MODE_EXISTING) != 0
                             || localCurrentField.hasContent()
                     ) {
-                        localLine.addField(localCurrentField.toStringAndReset());
+                        emitField(sink, localBuf, 0, 0, fieldMode, selected);
                     }
 
                     break;
                 }
 
-                localCopyStart = localBufPos = copyLen = 0;
+                if (bufLen == 0) {
+                    // no data available yet - continue with the next invocation
+                    suspended = true;
+                    suspendedFieldMode = fieldMode;
+                    suspendedLines = lines;
+                    suspendedFieldIdx = fieldIdx;
+                    break;
+                }
             }
 
             final char c = localBuf[localBufPos++];
@@ -100,27 +264,39 @@ final class RowReader implements Closeable {
                     // End of quoted text
                     fieldMode &= ~FIELD_MODE_QUOTE_ON;
                     if (copyLen > 0) {
-                        localCurrentField.append(localBuf, localCopyStart, copyLen);
+                        if (selected) {
+                            localCurrentField.append(localBuf, localCopyStart, copyLen);
+                        } else {
+                            fieldMode |= FIELD_MODE_SKIPPED_CONTENT;
+                        }
                         copyLen = 0;
                     } else {
                         fieldMode |= FIELD_MODE_QUOTED_EMPTY;
                     }
                     localCopyStart = localBufPos;
                 } else {
-                    if (c == CR || c == LF && prevChar != CR) {
+                    if (c == CR || c == LF && localPrevChar != CR) {
                         lines++;
                     }
                     copyLen++;
+
+                    // consume all following regular characters at once
+                    final int runEnd = findRunEnd(localBuf, localBufPos, bufLen);
+                    if (runEnd != localBufPos) {
+                        copyLen += runEnd - localBufPos;
+                        localBufPos = runEnd;
+                        localPrevChar = localBuf[runEnd - 1];
+                        continue;
+                    }
                 }
             } else {
                 if (c == fieldSeparator) {
-                    if (copyLen > 0) {
-                        localCurrentField.append(localBuf, localCopyStart, copyLen);
-                        copyLen = 0;
-                    }
-                    localLine.addField(localCurrentField.toStringAndReset());
+                    emitField(sink, localBuf, localCopyStart, copyLen, fieldMode, selected);
+                    copyLen = 0;
                     localCopyStart = localBufPos;
                     fieldMode = FIELD_MODE_RESET;
+                    fieldIdx++;
+                    selected = isSelected(localSelectedColumns, fieldIdx);
                 } else if (c == textDelimiter && (fieldMode & FIELD_MODE_NON_QUOTED) == 0) {
                     // Quoted text starts
                     fieldMode = FIELD_MODE_QUOTED | FIELD_MODE_QUOTE_ON;
@@ -129,32 +305,45 @@ final class RowReader implements Closeable {
                         // escaped quote
                         copyLen++;
                     } else {
+                        if (copyLen > 0) {
+                            if (selected) {
+                                localCurrentField.append(localBuf, localCopyStart, copyLen);
+                            } else {
+                                fieldMode |= FIELD_MODE_SKIPPED_CONTENT;
+                            }
+                            copyLen = 0;
+                        }
                         localCopyStart = localBufPos;
                     }
                 } else if (c == CR) {
-                    if (copyLen > 0) {
-                        localCurrentField.append(localBuf, localCopyStart, copyLen);
-                    }
-                    localLine.addField(localCurrentField.toStringAndReset());
+                    emitField(sink, localBuf, localCopyStart, copyLen, fieldMode, selected);
                     localPrevChar = c;
                     localCopyStart = localBufPos;
                     break;
                 } else if (c == LF) {
                     if (localPrevChar != CR) {
-                        if (copyLen > 0) {
-                            localCurrentField.append(localBuf, localCopyStart, copyLen);
-                        }
-                        localLine.addField(localCurrentField.toStringAndReset());
+                        emitField(sink, localBuf, localCopyStart, copyLen, fieldMode, selected);
                         localPrevChar = c;
                         localCopyStart = localBufPos;
                         break;
                     }
+                    // the LF of a CRLF terminated row
+                    rowStart++;
                     localCopyStart = localBufPos;
                 } else {
                     copyLen++;
                     if (fieldMode == FIELD_MODE_RESET) {
                         fieldMode = FIELD_MODE_NON_QUOTED;
                     }
+
+                    // consume all following regular characters at once
+                    final int runEnd = findRunEnd(localBuf, localBufPos, bufLen);
+                    if (runEnd != localBufPos) {
+                        copyLen += runEnd - localBufPos;
+                        localBufPos = runEnd;
+                        localPrevChar = localBuf[runEnd - 1];
+                        continue;
+                    }
                 }
             }
 
@@ -166,8 +355,249 @@ final class RowReader implements Closeable {
         prevChar = localPrevChar;
         copyStart = localCopyStart;
 
-        localLine.setLines(lines);
-        return localLine;
+        return lines;
+    }
+
+    /**
+     * Stage two of structural indexing: reads the next row by walking the positions of its
+     * structural characters only - the fields in between are passed to the sink directly from
+     * the read buffer.
+     *
+     * Only rows that are completely contained in the read buffer and don't contain any text
+     * delimiter are read this way. The quoting rules (a text delimiter only starts a quoted
+     * section at the beginning of a field) can't be derived from the positions alone - such
+     * rows are left to the character level state machine, just like rows spanning a buffer
+     * boundary.
+     *
+     * @param sink the sink to pass the fields to
+     * @return the number of lines the row is made of (1) - or 0 if nothing was read
+     */
+    private int readIndexedLine(final FieldSink sink) {
+        final char[] localBuf = buf;
+        final StructuralIndex index = structuralIndex;
+        if (bufPos == bufLen) {
+            return 0;
+        }
+        if (!index.covers(bufOffset, bufLen)) {
+            index.build(localBuf, bufLen, bufOffset);
+        }
+
+        // the LF of a CRLF terminated row
+        final int start = prevChar == CR && localBuf[bufPos] == LF ? bufPos + 1 : bufPos;
+
+        final int[] positions = index.getPositions();
+        final int first = index.seek(start);
+        int last = first;
+        while (last < index.getCount() && localBuf[positions[last]] == fieldSeparator) {
+            last++;
+        }
+        if (last == index.getCount() || localBuf[positions[last]] == textDelimiter) {
+            return 0;
+        }
+
+        final int[] localSelectedColumns = selectedColumns;
+        int fieldStart = start;
+        for (int i = first; i <= last; i++) {
+            final int fieldIdx = i - first;
+            final int pos = positions[i];
+            if (isSelected(localSelectedColumns, fieldIdx)) {
+                sink.field(localBuf, fieldStart, pos - fieldStart, false);
+            } else {
+                sink.skippedField(pos == fieldStart);
+            }
+            fieldStart = pos + 1;
+        }
+
+        index.consume(last);
+        rowStart = bufOffset + start;
+        bufPos = fieldStart;
+        copyStart = fieldStart;
+        prevChar = localBuf[positions[last]];
+        return 1;
+    }
+
+    /**
+     * Skips the next row. Only the quote state and the line breaks are tracked - no field is
+     * passed to any sink or copied to the field buffer.
+     *
+     * The result is the same as of {@link #readLine(FieldSink)}: the number of lines the row is
+     * made of is available via {@link #getSkippedLines()}, whether the row consists of one
+     * empty field via {@link #isSkippedRowEmpty()}.
+     *
+     * @return the number of fields of the skipped row - 0 if the end of data is reached
+     * @throws IOException if an I/O error occurs
+     */
+    int skipLine() throws IOException {
+        final char[] localBuf = buf;
+        final char localFieldSeparator = fieldSeparator;
+        final char localTextDelimiter = textDelimiter;
+        int localBufPos = bufPos;
+        int localPrevChar = prevChar;
+
+        rowStart = bufOffset + localBufPos;
+        boolean quoteOn = false;
+        boolean nonQuoted = false;
+        boolean fieldExists = false;
+        boolean content = false;
+        int separators = 0;
+        int lines = 1;
+        int fieldCount;
+
+        while (true) {
+            if (bufLen == localBufPos) {
+                bufOffset += localBufPos;
+                localBufPos = 0;
+                bufLen = reader.read(localBuf, 0, localBuf.length);
+
+                if (bufLen < 0) {
+                    // end of data
+                    finished = true;
+                    bufLen = 0;
+                    fieldCount = separators
+                        + (localPrevChar == localFieldSeparator || fieldExists ? 1 : 0);
+                    break;
+                }
+
+                if (bufLen == 0) {
+                    throw new IllegalStateException("Rows cannot be skipped while data is "
+                        + "pushed");
+                }
+            }
+
+            final char c = localBuf[localBufPos++];
+
+            if (quoteOn) {
+                if (c == localTextDelimiter) {
+                    quoteOn = false;
+                    fieldExists = true;
+                } else {
+                    if (c == CR || c == LF && localPrevChar != CR) {
+                        lines++;
+                    }
+                    content = true;
+                    fieldExists = true;
+                }
+            } else if (c == localFieldSeparator) {
+                separators++;
+                nonQuoted = false;
+                fieldExists = false;
+            } else if (c == localTextDelimiter && !nonQuoted) {
+                // an escaped quote is content - otherwise a quoted section starts
+                if (localPrevChar == localTextDelimiter) {
+                    content = true;
+                }
+                quoteOn = true;
+            } else if (c == CR) {
+                localPrevChar = c;
+                fieldCount = separators + 1;
+                break;
+            } else if (c == LF) {
+                if (localPrevChar != CR) {
+                    localPrevChar = c;
+                    fieldCount = separators + 1;
+                    break;
+                }
+                // the LF of a CRLF terminated row
+                rowStart++;
+            } else {
+                if (!fieldExists) {
+                    nonQuoted = true;
+                }
+                content = true;
+                fieldExists = true;
+            }
+
+            localPrevChar = c;
+        }
+
+        bufPos = localBufPos;
+        prevChar = localPrevChar;
+        copyStart = localBufPos;
+        skippedLines = lines;
+        skippedRowEmpty = separators == 0 && !content;
+
+        return fieldCount;
+    }
+
+    /**
+     * @return the number of lines of the row skipped last
+     */
+    int getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * @return {@code true} if the row skipped last consists of one empty field
+     */
+    boolean isSkippedRowEmpty() {
+        return skippedRowEmpty;
+    }
+
+    /**
+     * Checks if the given column is selected. The sorted indexes keep the memory footprint
+     * independent of the highest selected index.
+     *
+     * @param selectedColumns the indexes of the selected columns in ascending order or
+     *                        {@code null} for all columns
+     * @param column the index of the column
+     * @return {@code true} if the column is selected
+     */
+    private static boolean isSelected(final int[] selectedColumns, final int column) {
+        return selectedColumns == null || Arrays.binarySearch(selectedColumns, column) >= 0;
+    }
+
+    /**
+     * Passes a completed field to the sink - directly from the read buffer if the field was read
+     * in one piece or from the field buffer otherwise (quoted sections / buffer boundaries).
+     *
+     * @param sink the sink to pass the field to
+     * @param src the read buffer
+     * @param srcPos the position of the last piece of the field within the read buffer
+     * @param length the length of the last piece of the field
+     * @param fieldMode the field mode
+     * @param selected {@code true} if the field belongs to a selected column
+     */
+    private void emitField(final FieldSink sink, final char[] src, final int srcPos,
+                           final int length, final int fieldMode, final boolean selected) {
+
+        if (!selected) {
+            sink.skippedField(length == 0 && (fieldMode & FIELD_MODE_SKIPPED_CONTENT) == 0);
+            return;
+        }
+
+        final boolean quoted = (fieldMode & FIELD_MODE_QUOTED) != 0;
+        final ReusableStringBuilder localCurrentField = currentField;
+        if (localCurrentField.hasContent()) {
+            if (length > 0) {
+                localCurrentField.append(src, srcPos, length);
+            }
+            sink.field(localCurrentField.getBuffer(), 0, localCurrentField.length(), quoted);
+            localCurrentField.reset();
+        } else {
+            sink.field(src, srcPos, length, quoted);
+        }
+    }
+
+    /**
+     * Finds the end of a run of characters without any special meaning (neither field
+     * separator, text delimiter, CR nor LF).
+     *
+     * @param chars the characters to scan
+     * @param start the position to start scanning at
+     * @param end the position to stop scanning at
+     * @return the position of the first special character or {@code end}
+     */
+    private int findRunEnd(final char[] chars, final int start, final int end) {
+        final boolean[] localStructuralChars = structuralChars;
+        int pos = start;
+        while (pos < end) {
+            final char c = chars[pos];
+            if (c < localStructuralChars.length && localStructuralChars[c]) {
+                break;
+            }
+            pos++;
+        }
+        return pos;
     }
 
     @Override
@@ -179,33 +609,206 @@ final class RowReader implements Closeable {
         return finished;
     }
 
-    static final class Line {
+    /**
+     * @return {@code true} if the row read last couldn't be completed due to missing data
+     */
+    boolean isSuspended() {
+        return suspended;
+    }
+
+    /**
+     * Receives the fields read by {@link #readLine(FieldSink)}.
+     */
+    interface FieldSink {
+
+        /**
+         * Called for every field of a row. The buffer is only valid during the invocation.
+         *
+         * @param buf the buffer containing the field
+         * @param offset the position of the field within the buffer
+         * @param length the length of the field
+         * @param quoted {@code true} if the field contains quoted sections
+         */
+        void field(char[] buf, int offset, int length, boolean quoted);
+
+        /**
+         * Called instead of {@link #field(char[], int, int, boolean)} for every field of a
+         * column that isn't selected.
+         *
+         * @param empty {@code true} if the field is empty
+         */
+        void skippedField(boolean empty);
+
+    }
 
+    static final class Line implements FieldSink {
+
+        private static final String EMPTY = "";
+
+        private final List<String> fieldView = new FieldView();
+        private final LazyFieldList lazyFieldView = new LazyFieldList();
         private String[] fields;
+        private int[] cachedColumns;
+        private StringCache[] stringCaches;
         private int linePos;
+        private int fieldCount;
+        private boolean emptyFirstField;
         private int lines;
 
+        // only used for lazy fields
+        private boolean lazy;
+        private int[] ends;
+        private char[] chars;
+        private int charPos;
+
         Line(final int initialCapacity) {
             fields = new String[initialCapacity];
         }
 
         Line reset() {
             linePos = 0;
+            fieldCount = 0;
             lines = 1;
+            charPos = 0;
             return this;
         }
 
-        void addField(final String field) {
+        @Override
+        public void field(final char[] buf, final int offset, final int length,
+                          final boolean quoted) {
             if (linePos == fields.length) {
                 fields = Arrays.copyOf(fields, fields.length * 2);
             }
-            fields[linePos++] = field;
+            if (lazy) {
+                lazyField(buf, offset, length);
+            } else {
+                fields[linePos++] = length > 0 ? newString(buf, offset, length) : EMPTY;
+            }
+            countField(length == 0);
+        }
+
+        private String newString(final char[] buf, final int offset, final int length) {
+            final String cached = cachedString(buf, offset, length);
+            return cached != null ? cached : new String(buf, offset, length);
+        }
+
+        private String cachedString(final char[] buf, final int offset, final int length) {
+            final StringCache[] caches = stringCaches;
+            if (caches == null) {
+                return null;
+            }
+            final int idx = Arrays.binarySearch(cachedColumns, fieldCount);
+            return idx >= 0 ? caches[idx].get(buf, offset, length) : null;
+        }
+
+        /**
+         * Only copies the characters of the field - deduplicated fields are materialized
+         * immediately.
+         */
+        private void lazyField(final char[] buf, final int offset, final int length) {
+            if (linePos == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            if (charPos + length > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charPos + length));
+            }
+            System.arraycopy(buf, offset, chars, charPos, length);
+            charPos += length;
+            fields[linePos] = length > 0 ? cachedString(buf, offset, length) : EMPTY;
+            ends[linePos++] = charPos;
+        }
+
+        @Override
+        public void skippedField(final boolean empty) {
+            countField(empty);
+        }
+
+        private void countField(final boolean empty) {
+            if (fieldCount++ == 0) {
+                emptyFirstField = empty;
+            }
         }
 
         String[] getFields() {
+            if (lazy) {
+                final List<String> view = getFieldView();
+                for (int i = 0; i < linePos; i++) {
+                    view.get(i);
+                }
+            }
             return Arrays.copyOf(fields, linePos);
         }
 
+        /**
+         * @return a copy of the (selected) fields of the current row
+         */
+        List<String> copyFields() {
+            if (lazy) {
+                return new LazyFieldList(Arrays.copyOf(chars, charPos),
+                    Arrays.copyOf(ends, linePos),
+                    stringCaches != null ? Arrays.copyOf(fields, linePos) : null, linePos);
+            }
+            return Arrays.asList(getFields());
+        }
+
+        void setStringCaches(final int[] columns, final StringCache[] caches) {
+            cachedColumns = columns;
+            stringCaches = caches;
+        }
+
+        void setLazy(final boolean lazy) {
+            this.lazy = lazy;
+            if (lazy && chars == null) {
+                ends = new int[fields.length];
+                chars = new char[fields.length * 2];
+            }
+        }
+
+        /**
+         * @return a reusable view of the (selected) fields of the current row - always the same
+         * instance
+         */
+        List<String> getFieldView() {
+            return lazy ? lazyFieldView.reset(chars, ends, fields, linePos) : fieldView;
+        }
+
+        /**
+         * @return the characters of the (selected) fields of the current row - only available
+         * for lazy fields
+         */
+        char[] getChars() {
+            return chars;
+        }
+
+        int getFieldStart(final int index) {
+            return index > 0 ? ends[index - 1] : 0;
+        }
+
+        int getFieldEnd(final int index) {
+            return ends[index];
+        }
+
+        /**
+         * @return the number of (selected) fields of the current row
+         */
+        int getSize() {
+            return linePos;
+        }
+
+        /**
+         * @return the number of fields of the current row - including skipped fields
+         */
+        int getFieldCount() {
+            return fieldCount;
+        }
+
+        /**
+         * @return {@code true} if the current row consists of one empty field
+         */
+        boolean isEmptyRow() {
+            return fieldCount == 1 && emptyFirstField;
+        }
+
         int getLines() {
             return lines;
         }
@@ -214,6 +817,23 @@ final class RowReader implements Closeable {
             this.lines = lines;
         }
 
+        private final class FieldView extends AbstractList<String> implements RandomAccess {
+
+            @Override
+            public String get(final int index) {
+                if (index >= linePos) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + linePos);
+                }
+                return fields[index];
+            }
+
+            @Override
+            public int size() {
+                return linePos;
+            }
+
+        }
+
     }
 
 }
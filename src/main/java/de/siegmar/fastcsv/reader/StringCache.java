@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+/**
+ * Bounded cache for deduplicating strings that are created from character ranges.
+ *
+ * The cache is a linear probing table of a fixed size. A string can only be stored within a
+ * window of {@value #WAYS} consecutive slots starting at the slot determined by its hash code
+ * - so values that map to the same slot don't evict each other. A new string that finds no
+ * free slot within its window evicts the oldest one of that window. Thus the cache never grows
+ * and a high number of distinct values degrades to creating strings as usual.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class StringCache {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_SHIFT = 16;
+
+    /**
+     * Number of slots a string may be stored at.
+     */
+    private static final int WAYS = 4;
+
+    private final String[] entries;
+    private final int ways;
+
+    /**
+     * Constructs a cache.
+     *
+     * @param size the maximum number of cached strings
+     */
+    StringCache(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be > 0");
+        }
+        entries = new String[size];
+        ways = Math.min(WAYS, size);
+    }
+
+    /**
+     * Returns a string of the given characters - a cached instance if available.
+     *
+     * @param buf the buffer containing the characters
+     * @param offset the position of the first character
+     * @param length the number of characters
+     * @return a string of the given characters
+     */
+    String get(final char[] buf, final int offset, final int length) {
+        // same as String.hashCode() which is cached by every string
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = HASH_MULTIPLIER * hash + buf[i];
+        }
+
+        final String[] localEntries = entries;
+        final int start = ((hash ^ hash >>> HASH_SHIFT) & Integer.MAX_VALUE) % localEntries.length;
+        int idx = start;
+        for (int way = 0; way < ways; way++) {
+            final String cached = localEntries[idx];
+            if (cached == null) {
+                break;
+            }
+            if (cached.hashCode() == hash && matches(cached, buf, offset, length)) {
+                return cached;
+            }
+            idx = next(idx);
+        }
+
+        final String str = new String(buf, offset, length);
+        insert(start, str);
+        return str;
+    }
+
+    /**
+     * Stores the string at the first slot of its window - the other entries of the window
+     * move one slot further, the last (oldest) one is dropped if no free slot is left.
+     */
+    private void insert(final int start, final String str) {
+        String moved = str;
+        int idx = start;
+        for (int way = 0; way < ways && moved != null; way++) {
+            final String previous = entries[idx];
+            entries[idx] = moved;
+            moved = previous;
+            idx = next(idx);
+        }
+    }
+
+    private int next(final int idx) {
+        return idx + 1 < entries.length ? idx + 1 : 0;
+    }
+
+    private static boolean matches(final String str, final char[] buf, final int offset,
+                                   final int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
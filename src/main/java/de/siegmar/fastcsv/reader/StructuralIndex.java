@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+/**
+ * Stage one of structural indexing: the positions of all structural characters (field
+ * separator, text delimiter, CR and LF) of the read buffer of {@link RowReader}. Stage two
+ * (see {@link RowReader#readLine(RowReader.FieldSink)}) walks only these positions instead of
+ * looking at every character.
+ *
+ * The index is built without any data dependent branch - every position is written and the
+ * count is only incremented for structural characters. All structural characters have to be
+ * ASCII characters - just like for {@link RowBoundaryScanner}.
+ *
+ * This class is intended for internal use only.
+ *
+ * @author Oliver Siegmar
+ */
+final class StructuralIndex {
+
+    private static final int ASCII_SIZE = 128;
+    private static final int ASCII_MASK = ASCII_SIZE - 1;
+    private static final int SIGN_SHIFT = 31;
+
+    private final byte[] structural = new byte[ASCII_SIZE];
+    private final int[] positions;
+    private int count;
+    private int cursor;
+    private long offset = -1;
+    private int length;
+
+    /**
+     * @param fieldSeparator the field separator
+     * @param textDelimiter the text delimiter
+     * @param capacity the size of the read buffer
+     */
+    StructuralIndex(final char fieldSeparator, final char textDelimiter, final int capacity) {
+        if (!isSupported(fieldSeparator, textDelimiter)) {
+            throw new IllegalArgumentException("Only ASCII field separators and text delimiters "
+                + "are supported");
+        }
+        structural[fieldSeparator] = 1;
+        structural[textDelimiter] = 1;
+        structural['\r'] = 1;
+        structural['\n'] = 1;
+        positions = new int[capacity + 1];
+    }
+
+    /**
+     * Checks if the given structural characters can be indexed.
+     *
+     * @param fieldSeparator the field separator
+     * @param textDelimiter the text delimiter
+     * @return {@code true} if both characters are distinct ASCII characters (other than CR
+     * and LF)
+     */
+    static boolean isSupported(final char fieldSeparator, final char textDelimiter) {
+        return RowBoundaryScanner.isSupported(fieldSeparator, textDelimiter);
+    }
+
+    /**
+     * Checks if this index was built for the given data.
+     *
+     * @param bufOffset the number of characters before the read buffer
+     * @param bufLen the number of characters in the read buffer
+     * @return {@code true} if this index covers the given read buffer
+     */
+    boolean covers(final long bufOffset, final int bufLen) {
+        return offset == bufOffset && length == bufLen;
+    }
+
+    /**
+     * Builds the index of the given read buffer.
+     *
+     * @param buf the read buffer
+     * @param bufLen the number of characters in the read buffer
+     * @param bufOffset the number of characters before the read buffer
+     */
+    void build(final char[] buf, final int bufLen, final long bufOffset) {
+        final byte[] localStructural = structural;
+        final int[] localPositions = positions;
+        int localCount = 0;
+        for (int i = 0; i < bufLen; i++) {
+            final char c = buf[i];
+            localPositions[localCount] = i;
+            // the sign bit of (c - ASCII_SIZE) masks out all non-ASCII characters
+            localCount += localStructural[c & ASCII_MASK] & ((c - ASCII_SIZE) >>> SIGN_SHIFT);
+        }
+
+        count = localCount;
+        cursor = 0;
+        offset = bufOffset;
+        length = bufLen;
+    }
+
+    /**
+     * Moves the cursor to the first structural character at or after the given position.
+     *
+     * @param pos the position within the read buffer
+     * @return the index of the structural character - or {@link #getCount()} if there is none
+     */
+    int seek(final int pos) {
+        int localCursor = cursor;
+        while (localCursor < count && positions[localCursor] < pos) {
+            localCursor++;
+        }
+        cursor = localCursor;
+        return localCursor;
+    }
+
+    /**
+     * Moves the cursor behind the given index.
+     *
+     * @param idx the index of the structural character consumed last
+     */
+    void consume(final int idx) {
+        cursor = idx + 1;
+    }
+
+    int[] getPositions() {
+        return positions;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+}
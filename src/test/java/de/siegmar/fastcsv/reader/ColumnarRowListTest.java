@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class ColumnarRowListTest {
+
+    private static final String[] VALUES = {
+        "", "0", "-0", "1", "-1", "007", "2147483648", "-9223372036854775808", "1.5", "1.50",
+        "1.0E10", "1e10", "NaN", "foo", "bar", "\"a,b\"", "\"x\ny\"", "1.2.3",
+    };
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnar(true);
+        final CsvContainer csv = read("h1,h2\n1,foo\n\n2,bar,x\n3\n");
+        assertEquals(csv.getHeader(), Arrays.asList("h1", "h2"));
+        assertEquals(csv.getRowCount(), 3);
+        assertEquals(csv.getRow(0).getField("h2"), "foo");
+        assertEquals(csv.getRow(0).getInt("h1"), 1);
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("2", "bar", "x"));
+        assertEquals(csv.getRow(1).getOriginalLineNumber(), 4);
+        assertEquals(csv.getRow(2).getFieldCount(), 1);
+        assertNull(csv.getRow(2).getField("h2"));
+    }
+
+    public void lossless() throws IOException {
+        csvReader.setColumnar(true);
+        final String data = "1,1.5,x,9999999999,\n"
+            + "2,2.25,x,-1,\n"
+            + ",,y,,\n"
+            + "-3,1.0E-5,x,0,007\n";
+        assertEquals(toString(read(data)), toString(csvReader(false).read(new StringReader(data))));
+    }
+
+    public void conversion() throws IOException {
+        csvReader.setColumnar(true);
+        final CsvContainer csv = read("1,1\n2147483648,1.5\n");
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("1", "1"));
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("2147483648", "1.5"));
+        assertEquals(csv.getRow(1).getLong(0), 2147483648L);
+    }
+
+    public void columnTypes() throws IOException {
+        csvReader.setColumnar(true);
+        csvReader.setColumnTypes(ColumnType.DOUBLE, null, ColumnType.STRING);
+        final CsvContainer csv = read("1.50,2,3\n,4,5\n");
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("1.5", "2", "3"));
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("", "4", "5"));
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Line 2 has a value that doesn't match its column "
+            + "type: For input string: \"x\"")
+    public void invalidColumnType() throws IOException {
+        csvReader.setColumnar(true);
+        csvReader.setColumnTypes(ColumnType.INT);
+        read("1\nx\n");
+    }
+
+    public void manyDistinctValues() throws IOException {
+        csvReader.setColumnar(true);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append("v").append(i).append(",c").append(i % 3).append('\n');
+        }
+        final CsvContainer csv = read(sb.toString());
+        assertEquals(csv.getRowCount(), 100000);
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("v0", "c0"));
+        assertEquals(csv.getRow(99999).getFields(), Arrays.asList("v99999", "c0"));
+        assertEquals(csv.getRow(70000).getField(0), "v70000");
+    }
+
+    public void dictionary() throws IOException {
+        csvReader.setColumnar(true);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 30000; i++) {
+            // "Aa" and "BB" have the same hash code
+            sb.append(i % 2 == 0 ? "Aa" : "BB").append(",v").append(i % 1000).append('\n');
+        }
+        final String data = sb.toString();
+        final CsvContainer csv = read(data);
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("Aa", "v0"));
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("BB", "v1"));
+        assertEquals(csv.getRow(29999).getFields(), Arrays.asList("BB", "v999"));
+        assertEquals(toString(csv), toString(csvReader(false).read(new StringReader(data))));
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 500; i++) {
+            final boolean containsHeader = random.nextBoolean();
+            final StringBuilder sb = new StringBuilder();
+            final int rowCount = random.nextInt(20);
+            for (int row = 0; row < rowCount; row++) {
+                appendRow(sb, random);
+            }
+
+            final String data = sb.toString();
+            final CsvReader rowReader = csvReader(false);
+            rowReader.setContainsHeader(containsHeader);
+            final CsvReader columnReader = csvReader(true);
+            columnReader.setContainsHeader(containsHeader);
+
+            assertEquals(toString(columnReader.read(new StringReader(data))),
+                toString(rowReader.read(new StringReader(data))), data);
+        }
+    }
+
+    private static void appendRow(final StringBuilder sb, final Random random) {
+        final int fieldCount = random.nextInt(4) + 1;
+        for (int field = 0; field < fieldCount; field++) {
+            if (field > 0) {
+                sb.append(',');
+            }
+            sb.append(VALUES[random.nextInt(VALUES.length)]);
+        }
+        sb.append('\n');
+    }
+
+    private CsvContainer read(final String data) throws IOException {
+        return csvReader.read(new StringReader(data));
+    }
+
+    private static CsvReader csvReader(final boolean columnar) {
+        final CsvReader reader = new CsvReader();
+        reader.setColumnar(columnar);
+        return reader;
+    }
+
+    private static String toString(final CsvContainer csv) {
+        final List<String> rows = new ArrayList<>();
+        for (final CsvRow row : csv.getRows()) {
+            rows.add(row.getOriginalLineNumber() + ":" + row.getFields());
+        }
+        return csv.getHeader() + " " + rows;
+    }
+
+}
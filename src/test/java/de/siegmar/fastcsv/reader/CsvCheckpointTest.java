@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvCheckpointTest {
+
+    private static final String NON_ASCII = String.valueOf((char) 0xE4);
+
+    private CsvReader csvReader;
+    private Path file;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        csvReader = new CsvReader();
+        file = Files.createTempFile("fastcsv", ".csv");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.delete(file);
+    }
+
+    public void startingOffsets() throws IOException {
+        final CsvParser csvParser = csvReader.parse(new StringReader("a,b\r\nc,d\n\re\r\n"));
+        assertEquals(csvParser.nextRow().getStartingOffset(), 0);
+        assertEquals(csvParser.nextRow().getStartingOffset(), 5);
+        assertEquals(csvParser.nextRow().getStartingOffset(), 10);
+        assertNull(csvParser.nextRow());
+    }
+
+    public void startingOffsetsReuseRows() throws IOException {
+        csvReader.setReuseRows(true);
+        final CsvParser csvParser = csvReader.parse(new StringReader("a\n\"b\nc\"\nd"));
+        assertEquals(csvParser.nextRow().getStartingOffset(), 0);
+        assertEquals(csvParser.nextRow().getStartingOffset(), 2);
+        assertEquals(csvParser.nextRow().getStartingOffset(), 8);
+    }
+
+    public void checkpoint() throws IOException {
+        csvReader.setContainsHeader(true);
+        final String data = "h1,h2\r\n1,2\r\n3,4\r\n";
+        final CsvParser csvParser = csvReader.parse(new StringReader(data));
+        csvParser.nextRow();
+        final CsvCheckpoint checkpoint = csvParser.getCheckpoint();
+        assertEquals(checkpoint.getOffset(), 11);
+        assertEquals(checkpoint.getLineNumber(), 2);
+        assertEquals(checkpoint.getHeader(), Arrays.asList("h1", "h2"));
+
+        final CsvParser resumed = csvReader.parse(new StringReader(data.substring(11)),
+            checkpoint);
+        final CsvRow row = resumed.nextRow();
+        assertEquals(row.getField("h2"), "4");
+        assertEquals(row.getOriginalLineNumber(), 3);
+        assertEquals(row.getStartingOffset(), 12);
+        assertEquals(resumed.getHeader(), Arrays.asList("h1", "h2"));
+        assertNull(resumed.nextRow());
+    }
+
+    public void serializable() throws IOException, ClassNotFoundException {
+        csvReader.setContainsHeader(true);
+        final CsvParser csvParser = csvReader.parse(new StringReader("h\n1\n2\n"));
+        csvParser.nextRow();
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(csvParser.getCheckpoint());
+        }
+        final CsvCheckpoint checkpoint;
+        try (final ObjectInputStream in =
+                 new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            checkpoint = (CsvCheckpoint) in.readObject();
+        }
+
+        final CsvParser resumed = csvReader.parse(new StringReader("2\n"), checkpoint);
+        assertEquals(resumed.nextRow().getField("h"), "2");
+    }
+
+    public void byteOffsets() throws IOException {
+        // characters of 2, 3 and 4 (surrogate pair) bytes
+        final String data = new String(new char[] {0xE4, ',', 0x20AC, '\n', '"', 0xD83D, 0xDE00,
+            '\n', '"', ',', 'x', '\r', '\n', 'y', 0xDF, '\r', '\n', '\n', 0x4E2D, ',', 'z',
+        });
+        Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+
+        final List<String> rows = new ArrayList<>();
+        final List<CsvCheckpoint> checkpoints = new ArrayList<>();
+        try (final CsvParser csvParser = csvReader.parse(file, StandardCharsets.UTF_8)) {
+            checkpoints.add(csvParser.getCheckpoint());
+            CsvRow row;
+            while ((row = csvParser.nextRow()) != null) {
+                rows.add(toString(row));
+                checkpoints.add(csvParser.getCheckpoint());
+            }
+        }
+
+        for (int c = 0; c < checkpoints.size(); c++) {
+            final CsvCheckpoint checkpoint = checkpoints.get(c);
+            assertEquals(checkpoint.getByteOffset(), data.substring(0,
+                (int) checkpoint.getOffset()).getBytes(StandardCharsets.UTF_8).length);
+            assertEquals(resume(csvReader.parse(file, StandardCharsets.UTF_8, checkpoint)),
+                rows.subList(c, rows.size()));
+        }
+    }
+
+    public void unknownCharOffset() throws IOException {
+        csvReader.setContainsHeader(true);
+        Files.write(file, ("h\n" + NON_ASCII + "\n1\n2\n")
+            .getBytes(StandardCharsets.UTF_8));
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 1);
+
+        final CsvCheckpoint checkpoint;
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8,
+            1)) {
+            assertEquals(csvParser.nextRow().getField("h"), "1");
+            checkpoint = csvParser.getCheckpoint();
+        }
+        assertEquals(checkpoint.getOffset(), -1);
+        assertEquals(checkpoint.getByteOffset(), 7);
+        assertEquals(checkpoint.getLineNumber(), 3);
+
+        try (final CsvParser csvParser = csvReader.parse(file, StandardCharsets.UTF_8,
+            checkpoint)) {
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.getField("h"), "2");
+            assertEquals(row.getOriginalLineNumber(), 4);
+            assertEquals(csvParser.getCheckpoint().getByteOffset(), 9);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownCharOffsetReader() throws IOException {
+        Files.write(file, (NON_ASCII + "\n1\n2\n")
+            .getBytes(StandardCharsets.UTF_8));
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 1);
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8,
+            1)) {
+            csvReader.parse(new StringReader("2\n"), csvParser.getCheckpoint());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void unknownOffset() throws IOException {
+        // malformed input after the first buffers of the index
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 10_000; i++) {
+            out.write(new byte[] {'a', '\n'});
+        }
+        out.write(new byte[] {'b', (byte) 0xFF, '\n', 'c', '\n'});
+        Files.write(file, out.toByteArray());
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 1);
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8,
+            10_001)) {
+            // malformed input makes the byte position unknown
+            csvParser.nextRow();
+            csvParser.getCheckpoint();
+        }
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 100; i++) {
+            csvReader.setContainsHeader(random.nextBoolean());
+            csvReader.setSkipEmptyRows(random.nextBoolean());
+            csvReader.setReuseRows(random.nextBoolean());
+            csvReader.setMemoryMapped(random.nextBoolean());
+
+            final String data = RandomCsv.generate(random, 100,
+                StandardCharsets.ISO_8859_1);
+
+            final List<String> rows = new ArrayList<>();
+            final List<CsvCheckpoint> checkpoints = new ArrayList<>();
+            try (final CsvParser csvParser = csvReader.parse(new StringReader(data))) {
+                checkpoints.add(csvParser.getCheckpoint());
+                CsvRow row;
+                while ((row = csvParser.nextRow()) != null) {
+                    // a row never starts with the LF of a CRLF
+                    assertFalse(data.startsWith("\r\n", (int) row.getStartingOffset() - 1),
+                        data);
+                    rows.add(toString(row));
+                    checkpoints.add(csvParser.getCheckpoint());
+                }
+            }
+
+            for (int c = 0; c < checkpoints.size(); c++) {
+                assertResume(data, checkpoints.get(c), rows.subList(c, rows.size()));
+            }
+        }
+    }
+
+    private void assertResume(final String data, final CsvCheckpoint checkpoint,
+                              final List<String> expected) throws IOException {
+        final String remaining = data.substring((int) checkpoint.getOffset());
+        assertEquals(resume(csvReader.parse(new StringReader(remaining), checkpoint)), expected,
+            data);
+
+        for (final Charset charset
+            : Arrays.asList(StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1)) {
+            Files.write(file, data.getBytes(charset));
+            assertEquals(resume(csvReader.parse(file, charset, checkpoint)), expected, data);
+        }
+    }
+
+    private static List<String> resume(final CsvParser csvParser) throws IOException {
+        final List<String> rows = new ArrayList<>();
+        try (final CsvParser p = csvParser) {
+            CsvRow row;
+            while ((row = p.nextRow()) != null) {
+                rows.add(toString(row));
+            }
+        }
+        return rows;
+    }
+
+    private static String toString(final CsvRow row) {
+        return row.getStartingOffset() + ":" + row;
+    }
+
+}
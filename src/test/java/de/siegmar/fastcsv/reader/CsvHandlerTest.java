@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvHandlerTest {
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+    }
+
+    public void simple() throws IOException {
+        assertEquals(read("foo,bar\n1,\"2\"\n"), Arrays.asList(
+            "1:[foo, bar]",
+            "2:[1, \"2\"]"));
+    }
+
+    public void sameAsRows() throws IOException {
+        final String data = "\n,\n\"\"\na,\"b\nc\"\"d\"\r\n\r\n\"x\"y,\"\"\r,";
+        assertSameAsRows(data);
+
+        csvReader.setSkipEmptyRows(false);
+        assertSameAsRows(data);
+
+        csvReader.setContainsHeader(true);
+        assertSameAsRows(data);
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        final CsvParser csvParser = csvReader.parse(new StringReader("\nh1,h2\n1,2\n"));
+        final CollectingHandler handler = new CollectingHandler();
+
+        assertTrue(csvParser.nextRow(handler));
+        assertEquals(csvParser.getHeader(), Arrays.asList("h1", "h2"));
+        assertEquals(handler.rows, Arrays.asList("3:[1, 2]"));
+        assertFalse(csvParser.nextRow(handler));
+    }
+
+    public void emptyRows() throws IOException {
+        assertEquals(read("\n\"\"\n,\n"), Arrays.asList("3:[, ]"));
+
+        csvReader.setSkipEmptyRows(false);
+        assertEquals(read("\n\"\"\n,\n"), Arrays.asList("1:[]", "2:[\"\"]", "3:[, ]"));
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Line 2 has 1 fields, but first line has 2 fields")
+    public void differentFieldCount() throws IOException {
+        csvReader.setErrorOnDifferentFieldCount(true);
+        read("a,b\nc\n");
+    }
+
+    public void columnSelection() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnNames("h2");
+        assertEquals(read("h1,h2\n,\n\"a\",\"b\"\n\n"), Arrays.asList(
+            "2:[]",
+            "3:[\"b\"]"));
+    }
+
+    public void longFields() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("ab ");
+        }
+        assertSameAsRows(sb + "," + sb + "\n\"" + sb + "\"," + sb);
+    }
+
+    private List<String> read(final String data) throws IOException {
+        final CollectingHandler handler = new CollectingHandler();
+        csvReader.read(new StringReader(data), handler);
+        return handler.rows;
+    }
+
+    private void assertSameAsRows(final String data) throws IOException {
+        final List<String> expected = new ArrayList<>();
+        for (final CsvRow row : csvReader.read(new StringReader(data)).getRows()) {
+            expected.add(row.getOriginalLineNumber() + ":" + row.getFields());
+        }
+
+        final CollectingHandler handler = new CollectingHandler();
+        handler.markQuoted = false;
+        csvReader.read(new StringReader(data), handler);
+        assertEquals(handler.rows, expected);
+    }
+
+    private static final class CollectingHandler implements CsvHandler {
+
+        private final List<String> rows = new ArrayList<>();
+        private final List<String> fields = new ArrayList<>();
+        private boolean markQuoted = true;
+
+        @Override
+        public void field(final char[] buf, final int offset, final int length,
+                          final boolean quoted) {
+            final String field = new String(buf, offset, length);
+            fields.add(quoted && markQuoted ? "\"" + field + "\"" : field);
+        }
+
+        @Override
+        public void endRow(final long originalLineNumber) {
+            rows.add(originalLineNumber + ":" + fields);
+            fields.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvPipelineTest {
+
+    private static final CsvPipeline.Mapper<String> ID_MAPPER = new CsvPipeline.Mapper<String>() {
+        @Override
+        public String map(final CsvRow row) throws IOException {
+            if (row.getField("text").equals("fail")) {
+                throw new IOException("Cannot map row " + row.getOriginalLineNumber());
+            }
+            return row.getField("id");
+        }
+    };
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+        csvReader.setContainsHeader(true);
+    }
+
+    public void order() throws IOException {
+        final StringBuilder sb = new StringBuilder("id,text\n");
+        for (int i = 0; i < 50_000; i++) {
+            sb.append(i).append(",\"line\n").append(i).append("\"\n");
+        }
+
+        int expected = 0;
+        try (final CsvPipeline<String> pipeline = pipeline(sb.toString(), 4)) {
+            String id;
+            while ((id = pipeline.next()) != null) {
+                assertEquals(id, String.valueOf(expected++));
+            }
+            assertNull(pipeline.next());
+        }
+        assertEquals(expected, 50_000);
+    }
+
+    public void empty() throws IOException {
+        try (final CsvPipeline<String> pipeline = pipeline("", 2)) {
+            assertNull(pipeline.next());
+        }
+    }
+
+    public void mapperError() throws IOException {
+        final StringBuilder sb = new StringBuilder("id,text\n");
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i).append(i == 3000 ? ",fail\n" : ",ok\n");
+        }
+
+        // the rows of the batch (1024 rows) whose mapping failed are not returned
+        final CsvPipeline<String> pipeline = pipeline(sb.toString(), 3);
+        assertFailure(pipeline, 2048, "Cannot map row 3002");
+        assertNull(pipeline.next());
+    }
+
+    public void mapperRuntimeError() throws IOException {
+        final StringBuilder sb = new StringBuilder("id,text\n");
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i == 3000 ? "x" : String.valueOf(i)).append(",ok\n");
+        }
+
+        final CsvPipeline<Integer> pipeline = csvReader.pipeline(
+            new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8, 3, new CsvPipeline.Mapper<Integer>() {
+                @Override
+                public Integer map(final CsvRow row) {
+                    return row.getInt("id");
+                }
+            });
+
+        int cnt = 0;
+        try {
+            while (pipeline.next() != null) {
+                cnt++;
+            }
+            fail("Error not passed on");
+        } catch (final NumberFormatException e) {
+            assertEquals(cnt, 2048);
+        }
+        assertNull(pipeline.next());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void streamError() throws IOException {
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() {
+                throw new IllegalStateException("broken stream");
+            }
+        };
+
+        try (final CsvPipeline<String> pipeline =
+                 csvReader.pipeline(failing, StandardCharsets.UTF_8, 2, ID_MAPPER)) {
+            pipeline.next();
+        }
+    }
+
+    public void daemonWorkers() throws IOException {
+        final CsvPipeline<Boolean> pipeline = csvReader.pipeline(
+            new ByteArrayInputStream("id\n1\n".getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8, 2, new CsvPipeline.Mapper<Boolean>() {
+                @Override
+                public Boolean map(final CsvRow row) {
+                    return Thread.currentThread().isDaemon();
+                }
+            });
+        assertTrue(pipeline.next());
+    }
+
+    public void parseError() throws IOException {
+        csvReader.setErrorOnDifferentFieldCount(true);
+        final StringBuilder sb = new StringBuilder("id,text\n");
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i).append(",ok\n");
+        }
+        sb.append("x\n");
+
+        try (final CsvPipeline<String> pipeline = pipeline(sb.toString(), 2)) {
+            assertFailure(pipeline, 2000, "Line 2002 has 1 fields, but first line has 2 fields");
+        }
+    }
+
+    public void close() throws Exception {
+        final CountDownLatch closed = new CountDownLatch(1);
+        final InputStream endless = new InputStream() {
+            private final byte[] header = "id,text\n".getBytes(StandardCharsets.UTF_8);
+            private final byte[] row = "1,ok\n".getBytes(StandardCharsets.UTF_8);
+            private long pos;
+
+            @Override
+            public int read() {
+                final int c = pos < header.length ? header[(int) pos]
+                    : row[(int) ((pos - header.length) % row.length)];
+                pos++;
+                return c;
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        final CsvPipeline<String> pipeline =
+            csvReader.pipeline(endless, StandardCharsets.UTF_8, 2, ID_MAPPER);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(pipeline.next(), "1");
+        }
+        pipeline.close();
+        assertNull(pipeline.next());
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidWorkers() throws IOException {
+        pipeline("", 0);
+    }
+
+    private CsvPipeline<String> pipeline(final String data, final int workers)
+        throws IOException {
+        return csvReader.pipeline(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8, workers, ID_MAPPER);
+    }
+
+    private static void assertFailure(final CsvPipeline<String> pipeline, final int rows,
+                                      final String message) {
+        int cnt = 0;
+        try {
+            while (pipeline.next() != null) {
+                cnt++;
+            }
+        } catch (final IOException e) {
+            assertEquals(cnt, rows);
+            assertEquals(e.getMessage(), message);
+            return;
+        }
+        fail("Error not passed on");
+    }
+
+}
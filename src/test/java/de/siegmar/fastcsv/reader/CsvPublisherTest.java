@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvPublisherTest {
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+    }
+
+    public void demand() throws IOException {
+        final CountingReader reader = new CountingReader("a\nb\nc\n");
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader, 1).subscribe(subscriber);
+        assertEquals(reader.reads, 0);
+        assertEquals(subscriber.events, new ArrayList<String>());
+
+        subscriber.subscription.request(2);
+        assertEquals(subscriber.events, Arrays.asList("[a]", "[b]"));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(subscriber.events, Arrays.asList("[a]", "[b]", "[c]", "complete"));
+        assertTrue(reader.closed);
+    }
+
+    public void batches() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(new CountingReader("1\n2\n3\n4\n5\n6\n7\n"), 3).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(subscriber.events,
+            Arrays.asList("[1, 2, 3]", "[4, 5, 6]", "[7]", "complete"));
+    }
+
+    public void exactBatches() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(new CountingReader("1\n2\n3\n4\n"), 2).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(subscriber.events, Arrays.asList("[1, 2]", "[3, 4]", "complete"));
+    }
+
+    public void exactBatchesOfReusedRows() throws IOException {
+        csvReader.setReuseRows(true);
+        final CountingReader reader = new CountingReader("a\nb\n");
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader, 1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.events, Arrays.asList("[a]"));
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.events, Arrays.asList("[a]", "[b]", "complete"));
+        assertTrue(reader.closed);
+    }
+
+    public void error() throws IOException {
+        csvReader.setErrorOnDifferentFieldCount(true);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(new CountingReader("a,b\nc\n"), 1).subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertEquals(subscriber.events, Arrays.asList("[a]", "error: IOException"));
+    }
+
+    public void readerFailure() throws IOException {
+        final CountingReader reader = new CountingReader("a\n");
+        reader.failure = new IllegalStateException("broken");
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader, 1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.events, Arrays.asList("error: IllegalStateException"));
+        assertTrue(reader.closed);
+    }
+
+    public void subscriberFailure() throws IOException {
+        final CountingReader reader = new CountingReader("a\nb\n");
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        subscriber.failure = new IllegalStateException("broken");
+        publisher(reader, 1).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.events, Arrays.asList("[a]"));
+        assertTrue(reader.closed);
+    }
+
+    public void cancel() throws IOException {
+        final CountingReader reader = new CountingReader("a\nb\n");
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader, 1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.events, Arrays.asList("[a]"));
+        assertTrue(reader.closed);
+    }
+
+    public void invalidRequest() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(new CountingReader("a\n"), 1).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertEquals(subscriber.events, Arrays.asList("error: IllegalArgumentException"));
+    }
+
+    public void secondSubscriber() throws IOException {
+        final CsvPublisher publisher = publisher(new CountingReader("a\n"), 1);
+        publisher.subscribe(new RecordingSubscriber());
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertEquals(subscriber.events, Arrays.asList("error: IllegalStateException"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void batchesOfReusedRows() throws IOException {
+        csvReader.setReuseRows(true);
+        publisher(new CountingReader("a\n"), 2);
+    }
+
+    public void async() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        final List<String> expected = new ArrayList<>();
+        final List<String> batch = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append(i).append(",x\n");
+            batch.add(String.valueOf(i));
+            if (batch.size() == 7 || i == 9_999) {
+                expected.add(batch.toString());
+                batch.clear();
+            }
+        }
+        expected.add("complete");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final RecordingSubscriber subscriber = new RecordingSubscriber(true);
+            new CsvPublisher(csvReader.parse(new CountingReader(sb.toString())), executor, 7)
+                .subscribe(subscriber);
+
+            assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            assertEquals(subscriber.events, expected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CsvPublisher publisher(final CountingReader reader, final int batchSize)
+        throws IOException {
+        return new CsvPublisher(csvReader.parse(reader), DIRECT, batchSize);
+    }
+
+    private static final class RecordingSubscriber implements CsvPublisher.Subscriber {
+
+        private final List<String> events = new ArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final boolean continuous;
+        private CsvPublisher.Subscription subscription;
+        private RuntimeException failure;
+
+        RecordingSubscriber() {
+            this(false);
+        }
+
+        /**
+         * @param continuous request the next batch after each batch received
+         */
+        RecordingSubscriber(final boolean continuous) {
+            this.continuous = continuous;
+        }
+
+        @Override
+        public void onSubscribe(final CsvPublisher.Subscription s) {
+            assertNull(subscription);
+            subscription = s;
+            if (continuous) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(final List<CsvRow> rows) {
+            final List<String> values = new ArrayList<>();
+            for (final CsvRow row : rows) {
+                values.add(row.getField(0));
+            }
+            events.add(values.toString());
+            if (failure != null) {
+                throw failure;
+            }
+            if (continuous) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            events.add("error: " + throwable.getClass().getSimpleName());
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            events.add("complete");
+            done.countDown();
+        }
+
+    }
+
+    private static final class CountingReader extends StringReader {
+
+        private int reads;
+        private boolean closed;
+        private RuntimeException failure;
+
+        CountingReader(final String data) {
+            super(data);
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            reads++;
+            if (failure != null) {
+                throw failure;
+            }
+            return super.read(cbuf, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            super.close();
+        }
+
+    }
+
+}
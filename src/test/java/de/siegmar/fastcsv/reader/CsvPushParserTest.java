@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvPushParserTest {
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+    }
+
+    public void incompleteRow() throws IOException {
+        final CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+        parser.feed(bytes("a,\"b"));
+        assertNull(parser.nextRow());
+        parser.feed(bytes("\nc\",d\r"));
+        final CsvRow row = parser.nextRow();
+        assertEquals(row.getFields(), Arrays.asList("a", "b\nc", "d"));
+        assertNull(parser.nextRow());
+
+        parser.feed(bytes("\ne"));
+        assertNull(parser.nextRow());
+        parser.finish();
+        assertEquals(parser.nextRow().getOriginalLineNumber(), 3);
+        assertNull(parser.nextRow());
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        final CsvPushParser parser = csvReader.pushParser(null);
+        parser.feed(CharBuffer.wrap("h1,h"));
+        assertNull(parser.nextRow());
+        parser.feed(CharBuffer.wrap("2\n1,2\n"));
+        assertEquals(parser.nextRow().getField("h2"), "2");
+        assertEquals(parser.getHeader(), Arrays.asList("h1", "h2"));
+    }
+
+    public void splitMultiByteSequence() throws IOException {
+        final byte[] data = (String.valueOf(Character.toChars(0x1F600)) + "\n")
+            .getBytes(StandardCharsets.UTF_8);
+        final CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+        for (final byte b : data) {
+            parser.feed(ByteBuffer.wrap(new byte[] {b}));
+        }
+        assertEquals(parser.nextRow().getField(0), String.valueOf(Character.toChars(0x1F600)));
+    }
+
+    public void handler() throws IOException {
+        final CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+        final List<String> fields = new ArrayList<>();
+        final CsvHandler handler = new CsvHandler() {
+            @Override
+            public void field(final char[] buf, final int offset, final int length,
+                              final boolean quoted) {
+                fields.add(new String(buf, offset, length));
+            }
+
+            @Override
+            public void endRow(final long originalLineNumber) {
+                fields.add("#" + originalLineNumber);
+            }
+        };
+
+        parser.feed(bytes("\n,a,b"));
+        assertFalse(parser.nextRow(handler));
+        parser.feed(bytes("c\n"));
+        assertTrue(parser.nextRow(handler));
+        assertEquals(fields, Arrays.asList("", "a", "bc", "#2"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void feedAfterFinish() throws IOException {
+        final CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+        parser.finish();
+        parser.feed(bytes("a"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void bytesWithoutCharset() throws IOException {
+        csvReader.pushParser(null).feed(bytes("a"));
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 500; i++) {
+            csvReader.setContainsHeader(random.nextBoolean());
+            csvReader.setSkipEmptyRows(random.nextBoolean());
+            csvReader.setLazyFields(random.nextBoolean());
+            csvReader.setReuseRows(random.nextBoolean());
+
+            final String data = RandomCsv.generate(random, 100);
+
+            final List<String> expected = new ArrayList<>();
+            drain(csvReader.parse(new StringReader(data)), expected);
+
+            assertEquals(push(data, random), expected, data);
+        }
+    }
+
+    /**
+     * Passes the data in random chunks (as bytes or chars).
+     */
+    private List<String> push(final String data, final Random random) throws IOException {
+        final boolean bytes = random.nextBoolean();
+        final byte[] encoded = data.getBytes(StandardCharsets.UTF_8);
+        final int length = bytes ? encoded.length : data.length();
+
+        final List<String> rows = new ArrayList<>();
+        final CsvPushParser parser = csvReader.pushParser(StandardCharsets.UTF_8);
+        int pos = 0;
+        while (pos < length) {
+            final int chunk = Math.min(random.nextInt(10) + 1, length - pos);
+            if (bytes) {
+                parser.feed(ByteBuffer.wrap(encoded, pos, chunk));
+            } else {
+                parser.feed(CharBuffer.wrap(data, pos, pos + chunk));
+            }
+            pos += chunk;
+            drain(parser, rows);
+        }
+        parser.finish();
+        drain(parser, rows);
+        return rows;
+    }
+
+    private static void drain(final CsvParser csvParser, final List<String> rows)
+        throws IOException {
+        CsvRow row;
+        while ((row = csvParser.nextRow()) != null) {
+            rows.add(row.toString());
+        }
+    }
+
+    private static void drain(final CsvPushParser parser, final List<String> rows)
+        throws IOException {
+        CsvRow row;
+        while ((row = parser.nextRow()) != null) {
+            rows.add(row.toString());
+        }
+    }
+
+    private static ByteBuffer bytes(final String data) {
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -18,11 +18,18 @@ package de.siegmar.fastcsv.reader;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -237,6 +244,10 @@ public class CsvReaderTest {
         assertEquals(readRow("\"a\"b,c"), Arrays.asList("ab", "c"));
     }
 
+    public void quotesAfterTextAfterQuotes() throws IOException {
+        assertEquals(readRow("\"\"bar\"a,b\",c"), Arrays.asList("bara,b", "c"));
+    }
+
     public void spaceBeforeQuotes() throws IOException {
         assertEquals(readRow(" \"a\",b"), Arrays.asList(" \"a\"", "b"));
     }
@@ -253,6 +264,194 @@ public class CsvReaderTest {
         assertEquals(readCsvRow("aaa\"").getField(0), "aaa\"");
     }
 
+    public void longFields() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("ab ");
+        }
+        final String text = sb.toString();
+
+        final CsvContainer csv = read(text + ",\"" + text + "\n\"\"" + text + "\"\n" + text);
+        assertEquals(csv.getRowCount(), 2);
+        assertEquals(csv.getRow(0).getFields(),
+            Arrays.asList(text, text + "\n\"" + text));
+        assertEquals(csv.getRow(1).getFields(), Collections.singletonList(text));
+        assertEquals(csv.getRow(1).getOriginalLineNumber(), 3);
+    }
+
+    // column selection
+
+    public void columnIndexes() throws IOException {
+        csvReader.setColumnIndexes(3, 1);
+        final CsvContainer csv = read("a,b,c,d\n\"e\",\"f\"\"\",g,h,i\nj,k\n");
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("b", "d"));
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("f\"", "h"));
+        assertEquals(csv.getRow(2).getFields(), Collections.singletonList("k"));
+    }
+
+    public void columnNames() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnNames("h3", "h1");
+        final CsvContainer csv = read("h1,h2,h3\n1,2,3\n4,5\n");
+        assertEquals(csv.getHeader(), Arrays.asList("h1", "h3"));
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("1", "3"));
+        assertEquals(csv.getRow(0).getField("h3"), "3");
+        assertNull(csv.getRow(1).getField("h3"));
+    }
+
+    public void columnIndexesWithHeader() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnIndexes(1);
+        final CsvContainer csv = read("h1,h2\n1,2\n");
+        assertEquals(csv.getHeader(), Collections.singletonList("h2"));
+        assertEquals(csv.getRow(0).getField("h2"), "2");
+    }
+
+    public void columnSelectionEmptyRows() throws IOException {
+        csvReader.setColumnIndexes(1);
+        final CsvContainer csv = read("a,b\n\n\"\"\nc\n\"d\"\n");
+        assertEquals(csv.getRowCount(), 3);
+        assertEquals(csv.getRow(0).getFields(), Collections.singletonList("b"));
+        assertEquals(csv.getRow(1).getFieldCount(), 0);
+        assertEquals(csv.getRow(1).getOriginalLineNumber(), 4);
+        assertEquals(csv.getRow(2).getOriginalLineNumber(), 5);
+    }
+
+    public void columnSelectionLastFieldSkipped() throws IOException {
+        csvReader.setColumnIndexes(0);
+        csvReader.setErrorOnDifferentFieldCount(true);
+        final CsvContainer csv = read("a,b\nc,\"d\"");
+        assertEquals(csv.getRow(1).getFields(), Collections.singletonList("c"));
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Line 2 has 3 fields, but first line has 2 fields")
+    public void columnSelectionDifferentFieldCount() throws IOException {
+        csvReader.setColumnIndexes(0);
+        csvReader.setErrorOnDifferentFieldCount(true);
+        read("a,b\nc,d,e");
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Header does not contain column: foo")
+    public void nonExistingColumnName() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnNames("foo");
+        read("h1,h2\n1,2\n");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void columnNamesWithoutHeader() throws IOException {
+        csvReader.setColumnNames("foo");
+        read("h1,h2\n1,2\n");
+    }
+
+    public void hugeColumnIndex() throws IOException {
+        csvReader.setColumnIndexes(1, Integer.MAX_VALUE);
+        final CsvContainer csv = read("a,b,c\n");
+        assertEquals(csv.getRow(0).getFields(), Collections.singletonList("b"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void negativeColumnIndex() {
+        csvReader.setColumnIndexes(-1);
+    }
+
+    // string cache
+
+    public void cachedColumns() throws IOException {
+        csvReader.setCachedColumns(1);
+        final CsvContainer csv = read("a,DE\nb,DE\n\"c\",\"D\"\"E\"\nd,\"D\"\"E\"\n");
+        assertSame(csv.getRow(1).getField(1), csv.getRow(0).getField(1));
+        assertSame(csv.getRow(3).getField(1), csv.getRow(2).getField(1));
+        assertEquals(csv.getRow(3).getField(1), "D\"E");
+    }
+
+    public void notCachedColumns() throws IOException {
+        csvReader.setCachedColumns(1);
+        final CsvContainer csv = read("a,a\na,a\n");
+        assertNotSame(csv.getRow(1).getField(0), csv.getRow(0).getField(0));
+    }
+
+    public void hugeCachedColumnIndex() throws IOException {
+        csvReader.setCachedColumns(Integer.MAX_VALUE, 1, 1);
+        final CsvContainer csv = read("a,DE\nb,DE\n");
+        assertSame(csv.getRow(1).getField(1), csv.getRow(0).getField(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidStringCacheSize() {
+        csvReader.setStringCacheSize(0);
+    }
+
+    // reusable rows
+
+    public void reuseRows() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setReuseRows(true);
+        final CsvParser csv = parse("h1,h2\na,b\n\nc,d,e\n");
+
+        final CsvRow row = csv.nextRow();
+        assertEquals(row.getFields(), Arrays.asList("a", "b"));
+        assertEquals(row.getField("h2"), "b");
+        assertEquals(row.getOriginalLineNumber(), 2);
+
+        assertSame(csv.nextRow(), row);
+        assertEquals(row.getFields(), Arrays.asList("c", "d", "e"));
+        assertEquals(row.getField("h2"), "d");
+        assertEquals(row.getOriginalLineNumber(), 4);
+
+        assertNull(csv.nextRow());
+    }
+
+    public void reuseRowsNotForContainer() throws IOException {
+        csvReader.setReuseRows(true);
+        final CsvContainer csv = read("a\nb\n");
+        assertEquals(csv.getRow(0).getField(0), "a");
+        assertEquals(csv.getRow(1).getField(0), "b");
+    }
+
+    // lazy fields
+
+    public void lazyFields() throws IOException {
+        csvReader.setContainsHeader(true);
+        csvReader.setLazyFields(true);
+        final CsvContainer csv = read("h1,h2,h3\na,,\"b,\n\"\"c\"\n\"d\"\n");
+        assertEquals(csv.getHeader(), Arrays.asList("h1", "h2", "h3"));
+        assertEquals(csv.getRow(0).getFields(), Arrays.asList("a", "", "b,\n\"c"));
+        assertEquals(csv.getRow(1).getField("h1"), "d");
+        assertNull(csv.getRow(1).getField("h2"));
+        assertSame(csv.getRow(0).getField(2), csv.getRow(0).getField(2));
+    }
+
+    public void lazyTypedFields() throws IOException {
+        csvReader.setLazyFields(true);
+        final CsvRow csvRow = readCsvRow("1,2.5,true,3.10");
+        assertEquals(csvRow.getLong(0), 1L);
+        assertEquals(csvRow.getDouble(1), 2.5);
+        assertEquals(csvRow.getBoolean(2), true);
+        assertEquals(csvRow.getBigDecimal(3), new BigDecimal("3.10"));
+    }
+
+    public void lazyFieldsReuseRows() throws IOException {
+        csvReader.setLazyFields(true);
+        csvReader.setReuseRows(true);
+        final CsvParser csv = parse("a,1\nbb,22,c\n");
+        final CsvRow row = csv.nextRow();
+        assertEquals(row.getFields(), Arrays.asList("a", "1"));
+        assertSame(csv.nextRow(), row);
+        assertEquals(row.getInt(1), 22);
+        assertEquals(row.getFields(), Arrays.asList("bb", "22", "c"));
+    }
+
+    public void lazyFieldsCachedColumns() throws IOException {
+        csvReader.setLazyFields(true);
+        csvReader.setCachedColumns(1);
+        final CsvContainer csv = read("a,DE\nb,DE\n");
+        assertSame(csv.getRow(1).getField(1), csv.getRow(0).getField(1));
+        assertEquals(csv.getRow(1).getField(0), "b");
+    }
+
     // line breaks
 
     public void lineFeed() throws IOException {
@@ -290,6 +489,143 @@ public class CsvReaderTest {
         assertEquals(row.getOriginalLineNumber(), 3);
     }
 
+    public void lineNumberingAfterCarriageReturn() throws IOException {
+        final CsvParser csv = parse("a\r\"b\nc\"\nd");
+
+        assertEquals(csv.nextRow().getOriginalLineNumber(), 1);
+        assertEquals(csv.nextRow().getOriginalLineNumber(), 2);
+        assertEquals(csv.nextRow().getOriginalLineNumber(), 4);
+    }
+
+    // file input
+
+    public void readPath() throws IOException {
+        final String data = "foo,b" + (char) 0xE4 + "r\n\"multi\nline\"," + (char) 0x20AC + "\n";
+        final Path file = writeTempFile(data, StandardCharsets.UTF_8);
+        try {
+            for (final Charset charset : Arrays.asList(StandardCharsets.UTF_8,
+                StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII)) {
+
+                final CsvContainer csv = csvReader.read(file, charset);
+                assertEquals(csv.getRows().toString(),
+                    read(new String(Files.readAllBytes(file), charset)).getRows().toString());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    public void readPathMemoryMapped() throws IOException {
+        csvReader.setMemoryMapped(true);
+        csvReader.setMemoryMappingWindowSize(3);
+
+        final Path file = writeTempFile("foo,bar\n\"multi\nline\",baz\n", StandardCharsets.UTF_8);
+        try {
+            final CsvContainer csv = csvReader.read(file, StandardCharsets.UTF_8);
+            assertEquals(csv.getRowCount(), 2);
+            assertEquals(csv.getRow(0).getFields(), Arrays.asList("foo", "bar"));
+            assertEquals(csv.getRow(1).getFields(), Arrays.asList("multi\nline", "baz"));
+            assertEquals(csv.getRow(1).getOriginalLineNumber(), 2);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidMemoryMappingWindowSize() {
+        csvReader.setMemoryMappingWindowSize(0);
+    }
+
+    // typed fields
+
+    public void typedFields() throws IOException {
+        final CsvRow csvRow = readCsvRow("42,-9000000000,1.25,TRUE,0.10,x");
+        assertEquals(csvRow.getInt(0), 42);
+        assertEquals(csvRow.getLong(1), -9000000000L);
+        assertEquals(csvRow.getDouble(2), 1.25);
+        assertEquals(csvRow.getBoolean(3), true);
+        assertEquals(csvRow.getBigDecimal(4), new BigDecimal("0.10"));
+        assertEquals(csvRow.getBoolean(5), false);
+    }
+
+    public void typedFieldsByName() throws IOException {
+        csvReader.setContainsHeader(true);
+        final CsvRow csvRow = readCsvRow("a,b,c\n1,2.5");
+        assertEquals(csvRow.getInt("a"), 1);
+        assertEquals(csvRow.getDouble("b"), 2.5);
+        assertEquals(csvRow.getBoolean("c"), false);
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void typedFieldInvalid() throws IOException {
+        readCsvRow("1x").getInt(0);
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void typedFieldMissing() throws IOException {
+        csvReader.setContainsHeader(true);
+        readCsvRow("a,b\n1").getLong("b");
+    }
+
+    // skipping / counting rows
+
+    public void skipRows() throws IOException {
+        final List<String> samples = Arrays.asList("", "\n", "a", "a\n\nb\r\n\rc", "\"\"\n\"\"",
+            "\"a\nb\",\"c\r\nd\"\ne\r\n", "a\"b,\"c\"\"d\"\"\"\n\"\"\"\"\n,\n",
+            "\"a\"b\"c\nd\"\n", "a,\"", "a,\"\"", "\"open\n", "\n\n\"x\"\n\n");
+
+        for (final boolean skipEmptyRows : Arrays.asList(true, false)) {
+            csvReader.setSkipEmptyRows(skipEmptyRows);
+            for (final String data : samples) {
+                assertSkipRows(data);
+            }
+        }
+    }
+
+    private void assertSkipRows(final String data) throws IOException {
+        final List<CsvRow> rows = read(data).getRows();
+        assertEquals(parse(data).skipRows(Long.MAX_VALUE), rows.size(), data);
+
+        for (int i = 0; i < rows.size(); i++) {
+            final CsvParser csvParser = parse(data);
+            assertEquals(csvParser.skipRows(i), i);
+            assertEquals(csvParser.nextRow().toString(), rows.get(i).toString(), data);
+        }
+    }
+
+    public void skipRowsHeader() throws IOException {
+        csvReader.setContainsHeader(true);
+        final CsvParser csvParser = parse("\na,b\n1,2\n\n3,4\n5,6");
+        assertEquals(csvParser.skipRows(0), 0);
+        assertEquals(csvParser.skipRows(2), 2);
+        assertEquals(csvParser.getHeader(), Arrays.asList("a", "b"));
+        assertEquals(csvParser.nextRow().toString(),
+            "CsvRow{originalLineNumber=6, fields={a=5, b=6}}");
+        assertEquals(csvParser.skipRows(1), 0);
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Line 3 has 1 fields, but first line has 2 fields")
+    public void skipRowsDifferentFieldCount() throws IOException {
+        csvReader.setErrorOnDifferentFieldCount(true);
+        parse("a,b\nc,d\ne\n").skipRows(3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void skipRowsNegative() throws IOException {
+        parse("a").skipRows(-1);
+    }
+
+    public void countRows() throws IOException {
+        csvReader.setContainsHeader(true);
+        final Path file = writeTempFile("a,b\n1,\"x\ny\"\n\n2,3\r\n", StandardCharsets.UTF_8);
+        try {
+            assertEquals(csvReader.countRows(file, StandardCharsets.UTF_8), 2);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     // to string
 
     public void toStringWithoutHeader() throws IOException {
@@ -318,6 +654,14 @@ public class CsvReaderTest {
         return readCsvRow(data).getFields();
     }
 
+    private static Path writeTempFile(final String data, final Charset charset)
+        throws IOException {
+
+        final Path file = Files.createTempFile("fastcsv", ".csv");
+        Files.write(file, data.getBytes(charset));
+        return file;
+    }
+
     private CsvContainer read(final String data) throws IOException {
         return csvReader.read(new StringReader(data));
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CsvValidatorTest {
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+    }
+
+    public void valid() throws IOException {
+        final List<String> samples = Arrays.asList("", "a", "a,b\n\nc,d\r\n\re,f",
+            "\"a\nb\",\"c\"\"d\"\r\n\"\",\n", "\"\"\n\"\"", "a,b\r\n");
+
+        for (final String data : samples) {
+            final CsvValidationReport report = validate(data);
+            assertTrue(report.isValid(), data);
+            assertEquals(report.getRowCount(),
+                csvReader.read(new StringReader(data)).getRowCount(), data);
+        }
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        final Path file = Files.createTempFile("fastcsv", ".csv");
+        try {
+            Files.write(file, "a,b\n1,2\n\n3,4\n".getBytes(StandardCharsets.UTF_8));
+            assertEquals(csvReader.validate(file, StandardCharsets.UTF_8, 10).getRowCount(),
+                csvReader.countRows(file, StandardCharsets.UTF_8));
+            assertEquals(validate("a,b\n1,2\n\n3,4\n").getRowCount(), 2);
+            assertEquals(validate("a,b\n").getRowCount(), 0);
+            assertEquals(validate("").getRowCount(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    public void strayQuote() throws IOException {
+        final CsvValidationReport report = validate("a,b\nc,d\"e\"f\n\"g\"h,i");
+        assertFalse(report.isValid());
+        assertEquals(report.getProblems().toString(),
+            "[STRAY_QUOTE at line 2: Field 1 contains a text delimiter but isn't quoted]");
+    }
+
+    public void unterminatedQuote() throws IOException {
+        final CsvValidationReport report = validate("a,b\nc,\"d\ne,f\n");
+        assertEquals(report.getProblems().toString(),
+            "[UNTERMINATED_QUOTE at line 2: Quoted section of field 1 isn't closed]");
+        assertEquals(report.getRowCount(), 2);
+    }
+
+    public void differentFieldCount() throws IOException {
+        final CsvValidationReport report = validate("a,b\nc\n\"d\ne\",f\ng,h,i\n\nj,k");
+        assertEquals(report.getProblemCount(), 2);
+        assertEquals(report.getProblems().get(0).getType(),
+            CsvValidationReport.ProblemType.DIFFERENT_FIELD_COUNT);
+        assertEquals(report.getProblems().get(0).getLineNumber(), 2);
+        assertEquals(report.getProblems().get(1).getLineNumber(), 5);
+        assertEquals(report.getProblems().get(1).getMessage(),
+            "Row has 3 fields, but first row has 2 fields");
+        assertEquals(report.getRowCount(), 5);
+    }
+
+    public void emptyRows() throws IOException {
+        csvReader.setSkipEmptyRows(false);
+        final CsvValidationReport report = validate("a,b\n\nc,d\n");
+        assertEquals(report.getProblems().toString(),
+            "[DIFFERENT_FIELD_COUNT at line 2: Row has 1 fields, but first row has 2 fields]");
+    }
+
+    public void fieldTooLong() throws IOException {
+        final CsvValidationReport report =
+            csvReader.validate(new StringReader("abc,\"de\"\"f\"\n\"g\nh\"\"i\",j"), 3);
+        assertEquals(report.getProblems().toString(),
+            "[FIELD_TOO_LONG at line 1: Field 1 has 4 characters (max 3), "
+                + "FIELD_TOO_LONG at line 2: Field 0 has 5 characters (max 3)]");
+    }
+
+    public void maxProblems() throws IOException {
+        final StringBuilder sb = new StringBuilder("a,b\n");
+        for (int i = 0; i < 1500; i++) {
+            sb.append("c\n");
+        }
+
+        final CsvValidationReport report = validate(sb.toString());
+        assertEquals(report.getProblemCount(), 1500);
+        assertEquals(report.getProblems().size(), CsvValidationReport.MAX_PROBLEMS);
+    }
+
+    public void separator() throws IOException {
+        csvReader.setFieldSeparator(';');
+        csvReader.setTextDelimiter('\'');
+        assertTrue(validate("a;'b;\"c'\nd;e").isValid());
+        assertFalse(validate("a,b;c\nd").isValid());
+    }
+
+    public void validatePath() throws IOException {
+        final Path file = Files.createTempFile("fastcsv", ".csv");
+        try {
+            Files.write(file, "a,b\n1,2\n3\n".getBytes(StandardCharsets.UTF_8));
+            final CsvValidationReport report = csvReader.validate(file, StandardCharsets.UTF_8,
+                Integer.MAX_VALUE);
+            assertEquals(report.getProblemCount(), 1);
+            assertEquals(report.getProblems().get(0).getLineNumber(), 3);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidMaxFieldSize() throws IOException {
+        csvReader.validate(new StringReader(""), 0);
+    }
+
+    private CsvValidationReport validate(final String data) throws IOException {
+        return csvReader.validate(new StringReader(data), Integer.MAX_VALUE);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.testng.annotations.Test;
+
+@Test
+public class FastInputStreamReaderTest {
+
+    // contains 2, 3 and 4 byte UTF-8 sequences
+    private static final String TEXT = new StringBuilder("foo,\"b")
+        .appendCodePoint(0xE4).append("r\"\r\n")
+        .appendCodePoint(0x20AC).append(" 1,")
+        .appendCodePoint(0x1F600).append('\n')
+        .toString();
+
+    public void supportedCharsets() {
+        assertTrue(FastInputStreamReader.isSupported(StandardCharsets.UTF_8));
+        assertTrue(FastInputStreamReader.isSupported(StandardCharsets.US_ASCII));
+        assertTrue(FastInputStreamReader.isSupported(StandardCharsets.ISO_8859_1));
+        assertFalse(FastInputStreamReader.isSupported(StandardCharsets.UTF_16));
+    }
+
+    public void utf8() throws IOException {
+        assertDecoding(TEXT.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    public void latin1() throws IOException {
+        final byte[] data = new byte[256];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        assertDecoding(data, StandardCharsets.ISO_8859_1);
+    }
+
+    public void asciiWithInvalidBytes() throws IOException {
+        assertDecoding(TEXT.getBytes(StandardCharsets.UTF_8), StandardCharsets.US_ASCII);
+    }
+
+    public void malformedUtf8() throws IOException {
+        final byte[] data = {'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82, 'c', (byte) 0xE2};
+        assertDecoding(data, StandardCharsets.UTF_8);
+    }
+
+    public void bufferBoundaries() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(TEXT);
+        }
+        assertDecoding(sb.toString().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    public void mapped() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(TEXT);
+        }
+        final String large = sb.toString();
+
+        // windows split multi-byte sequences
+        for (int windowSize = 1; windowSize <= 5; windowSize++) {
+            assertMappedDecoding(TEXT, StandardCharsets.UTF_8, windowSize);
+        }
+        assertMappedDecoding(TEXT, StandardCharsets.US_ASCII, 3);
+        assertMappedDecoding(TEXT, StandardCharsets.ISO_8859_1, 3);
+        assertMappedDecoding(large, StandardCharsets.UTF_8, 10_000);
+    }
+
+    public void singleCharReads() throws IOException {
+        final byte[] data = TEXT.getBytes(StandardCharsets.UTF_8);
+        try (final Reader reader = new FastInputStreamReader(
+            new TricklingInputStream(data), StandardCharsets.UTF_8)) {
+
+            final StringBuilder sb = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                sb.append((char) c);
+            }
+            assertEquals(sb.toString(), TEXT);
+        }
+    }
+
+    private static void assertDecoding(final byte[] data, final Charset charset)
+        throws IOException {
+
+        final String expected = readAll(new InputStreamReader(
+            new ByteArrayInputStream(data), charset));
+
+        assertEquals(readAll(new FastInputStreamReader(
+            new ByteArrayInputStream(data), charset)), expected);
+        assertEquals(readAll(new FastInputStreamReader(
+            new TricklingInputStream(data), charset)), expected);
+    }
+
+    private static void assertMappedDecoding(final String text, final Charset charset,
+                                             final int windowSize) throws IOException {
+        final byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        final Path file = Files.createTempFile("fastcsv", ".csv");
+        try {
+            Files.write(file, data);
+            assertEquals(readAll(new FastInputStreamReader(
+                new MappedFileInputStream(file, windowSize), charset)),
+                new String(data, charset), "window size " + windowSize);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static String readAll(final Reader reader) throws IOException {
+        try (final Reader r = reader) {
+            final StringBuilder sb = new StringBuilder();
+            final char[] buf = new char[1000];
+            int len;
+            while ((len = r.read(buf, 0, buf.length)) != -1) {
+                sb.append(buf, 0, len);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Delivers only one byte per read in order to test incomplete multi-byte sequences.
+     */
+    private static final class TricklingInputStream extends InputStream {
+
+        private final ByteArrayInputStream in;
+
+        TricklingInputStream(final byte[] data) {
+            in = new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            return in.read(b, off, Math.min(len, 1));
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+@Test
+public class FieldParserTest {
+
+    private static final String[] INTEGERS = {
+        "0", "-0", "+0", "1", "-1", "+1", "007", "123456789", "2147483647", "-2147483648",
+        "2147483648", "-2147483649", "9223372036854775807", "-9223372036854775808",
+        "9223372036854775808", "-9223372036854775809", "99999999999999999999", "", "-", "+",
+        "1.0", " 1", "1 ", "1a", "--1", String.valueOf(new char[] {0x661, 0x662}),
+    };
+
+    private static final String[] DOUBLES = {
+        "0", "-0", "0.0", "-0.0", "1", "1.5", "-1.5", ".5", "5.", ".", "", "-", "1e10", "1E-10",
+        "1e+3", "1e", "1e-", "1.7976931348623157e308", "4.9e-324", "1e-400", "1e400",
+        "9007199254740993", "9007199254740992", "0.1", "0.30000000000000004", "123.456e-7",
+        "NaN", "-Infinity", " 1.5", "1.5 ", "1.5d", "0x1p3", "1..2", "1.2.3", "00000000000000001",
+        "1e00000000000000000002", "3.14159265358979323846264338327950288",
+    };
+
+    private static final String[] BOOLEANS = {
+        "true", "TRUE", "True", "false", "", "yes", "1", "truee", "tru",
+    };
+
+    public void integers() {
+        for (final String s : INTEGERS) {
+            assertEquals(parseInt(s), javaParseInt(s), s);
+            assertEquals(parseLong(s), javaParseLong(s), s);
+        }
+    }
+
+    public void doubles() {
+        for (final String s : DOUBLES) {
+            assertEquals(parseDouble(s), javaParseDouble(s), s);
+        }
+    }
+
+    public void randomDoubles() {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 100000; i++) {
+            final String s = random.nextInt(1000000) + "." + random.nextInt(1000000000)
+                + (random.nextBoolean() ? "e" + (random.nextInt(60) - 30) : "");
+            assertEquals(parseDouble(s), javaParseDouble(s), s);
+
+            final String full = Double.toString(Double.longBitsToDouble(random.nextLong()));
+            assertEquals(parseDouble(full), javaParseDouble(full), full);
+        }
+    }
+
+    public void booleans() {
+        for (final String s : BOOLEANS) {
+            final char[] buf = ("x" + s + "y").toCharArray();
+            assertEquals(FieldParser.parseBoolean(buf, 1, s.length()), Boolean.parseBoolean(s), s);
+        }
+    }
+
+    public void bigDecimals() {
+        final char[] buf = "x-12.50e3y".toCharArray();
+        assertEquals(FieldParser.parseBigDecimal(buf, 1, 8), new BigDecimal("-12.50e3"));
+        assertEquals(FieldParser.parseBigDecimal(buf, 2, 2), new BigDecimal(12));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void invalidRange() {
+        FieldParser.parseInt(new char[] {'1'}, 1, 1);
+    }
+
+    private static String parseInt(final String s) {
+        final char[] buf = ("x" + s + "y").toCharArray();
+        try {
+            return String.valueOf(FieldParser.parseInt(buf, 1, s.length()));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String javaParseInt(final String s) {
+        try {
+            return String.valueOf(Integer.parseInt(s));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String parseLong(final String s) {
+        final char[] buf = ("x" + s + "y").toCharArray();
+        try {
+            return String.valueOf(FieldParser.parseLong(buf, 1, s.length()));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String javaParseLong(final String s) {
+        try {
+            return String.valueOf(Long.parseLong(s));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String parseDouble(final String s) {
+        final char[] buf = ("x" + s + "y").toCharArray();
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(
+                FieldParser.parseDouble(buf, 1, s.length())));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+    private static String javaParseDouble(final String s) {
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(Double.parseDouble(s)));
+        } catch (final NumberFormatException e) {
+            return "NFE";
+        }
+    }
+
+}
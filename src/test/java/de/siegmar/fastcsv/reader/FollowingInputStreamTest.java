@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class FollowingInputStreamTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private CsvReader csvReader;
+    private Path file;
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        csvReader = new CsvReader();
+        csvReader.setFollowPollInterval(10);
+        file = Files.createTempFile("fastcsv", ".csv");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        executor.shutdownNow();
+        Files.delete(file);
+    }
+
+    public void partialRow() throws Exception {
+        append("a,b\nc,");
+        try (final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8)) {
+            assertEquals(csvParser.nextRow().getFields(), Arrays.asList("a", "b"));
+
+            final Future<CsvRow> next = nextRow(csvParser);
+            assertBlocked(next);
+            append("d");
+            assertBlocked(next);
+            append("\n");
+
+            final CsvRow row = next.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertEquals(row.getFields(), Arrays.asList("c", "d"));
+            assertEquals(row.getOriginalLineNumber(), 2);
+        }
+    }
+
+    public void partialQuotedField() throws Exception {
+        append("\"a\n");
+        try (final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8)) {
+            final Future<CsvRow> next = nextRow(csvParser);
+            assertBlocked(next);
+            append("b\"\r");
+            assertEquals(next.get(TIMEOUT, TimeUnit.MILLISECONDS).getFields(),
+                Arrays.asList("a\nb"));
+
+            // the LF of the CRLF arrives later
+            append("\nc\n");
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.getFields(), Arrays.asList("c"));
+            assertEquals(row.getOriginalLineNumber(), 3);
+        }
+    }
+
+    public void resume() throws Exception {
+        append("h\n1\n");
+        csvReader.setContainsHeader(true);
+        final CsvCheckpoint checkpoint;
+        try (final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8)) {
+            assertEquals(csvParser.nextRow().getField("h"), "1");
+            checkpoint = csvParser.getCheckpoint();
+        }
+
+        append("2\n");
+        try (final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8,
+            checkpoint)) {
+            assertEquals(csvParser.nextRow().getField("h"), "2");
+        }
+    }
+
+    public void close() throws Exception {
+        append("a");
+        final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8);
+        final Future<CsvRow> next = nextRow(csvParser);
+        assertBlocked(next);
+        csvParser.close();
+        assertFailed(next);
+    }
+
+    public void truncated() throws Exception {
+        append("a,b\nc");
+        try (final CsvParser csvParser = csvReader.follow(file, StandardCharsets.UTF_8)) {
+            csvParser.nextRow();
+            final Future<CsvRow> next = nextRow(csvParser);
+            assertBlocked(next);
+            Files.write(file, new byte[0]);
+            assertFailed(next);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidPollInterval() {
+        csvReader.setFollowPollInterval(0);
+    }
+
+    private Future<CsvRow> nextRow(final CsvParser csvParser) {
+        return executor.submit(new Callable<CsvRow>() {
+            @Override
+            public CsvRow call() throws IOException {
+                return csvParser.nextRow();
+            }
+        });
+    }
+
+    private static void assertBlocked(final Future<CsvRow> future) throws Exception {
+        try {
+            future.get(100, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            return;
+        }
+        fail("nextRow() returned without complete row");
+    }
+
+    private static void assertFailed(final Future<CsvRow> future) throws Exception {
+        try {
+            future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException, e.getCause().toString());
+            return;
+        }
+        fail("nextRow() didn't fail");
+    }
+
+    private void append(final String data) throws IOException {
+        Files.write(file, data.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class OffHeapRowListTest {
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+        csvReader.setOffHeap(true);
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        final CsvContainer csv = csvReader.read(new StringReader("h1,h2\n1,foo\n\n2,,x\n3\n"));
+        assertEquals(csv.getHeader(), Arrays.asList("h1", "h2"));
+        assertEquals(csv.getRowCount(), 3);
+        assertEquals(csv.getRow(0).getField("h2"), "foo");
+        assertEquals(csv.getRow(0).getInt("h1"), 1);
+        assertEquals(csv.getRow(1).getFields(), Arrays.asList("2", "", "x"));
+        assertEquals(csv.getRow(1).getOriginalLineNumber(), 4);
+        assertNull(csv.getRow(2).getField("h2"));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void invalidIndex() throws IOException {
+        csvReader.read(new StringReader("a\n")).getRow(1);
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 300; i++) {
+            final String data = RandomCsv.generate(random, 300);
+            final boolean containsHeader = random.nextBoolean();
+
+            final CsvReader heapReader = new CsvReader();
+            heapReader.setContainsHeader(containsHeader);
+            final String expected = toString(heapReader.read(new StringReader(data)));
+
+            // tiny segments in order to test rows spread across many segments
+            csvReader.setContainsHeader(containsHeader);
+            final CsvContainer csv = new OffHeapRowList(random.nextInt(64) + 1,
+                random.nextInt(4) + 1).readAll(csvReader.parse(new StringReader(data)),
+                containsHeader);
+
+            assertEquals(toString(csv), expected, data);
+        }
+    }
+
+    private static String toString(final CsvContainer csv) {
+        final List<String> rows = new ArrayList<>();
+        for (final CsvRow row : csv.getRows()) {
+            rows.add(row.getOriginalLineNumber() + ":" + row.getFields());
+        }
+        return csv.getHeader() + " " + rows;
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class ParallelCsvReaderTest {
+
+    private CsvReader csvReader;
+    private Path file;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        csvReader = new CsvReader();
+        file = Files.createTempFile("fastcsv", ".csv");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.delete(file);
+    }
+
+    public void simple() throws IOException {
+        assertParallel("foo,bar\n1,2\n3,4\n5,6\n");
+    }
+
+    public void quotedLineBreaks() throws IOException {
+        assertParallel("\"a\nb\nc\",d\n\"e\r\nf\"\r\ng,\"h\ri\"\rj\n");
+    }
+
+    public void header() throws IOException {
+        csvReader.setContainsHeader(true);
+        assertParallel("\n\nh1,h2\n1,2\n\n3,4\n5,6");
+        assertParallel("h1,h2");
+        assertParallel("h1,h2\r\n");
+        assertParallel("");
+    }
+
+    public void noSkipEmptyRows() throws IOException {
+        csvReader.setSkipEmptyRows(false);
+        assertParallel("\n\n1,2\r\n\r\n3,4\r\r5,6\n");
+    }
+
+    public void differentFieldCount() throws IOException {
+        csvReader.setErrorOnDifferentFieldCount(true);
+        assertParallel("1,2\n3,4\n5,6\n7,8\n");
+        assertParallel("1,2\n3,4\n5,6\n7,\"8\n\",9\n10\n");
+
+        csvReader.setContainsHeader(true);
+        assertParallel("a\n1,2\n");
+    }
+
+    public void columnSelection() throws IOException {
+        csvReader.setColumnIndexes(1);
+        assertParallel("1,2\n\"3\",\"4\n\"\n5\n6,7,8\n");
+
+        csvReader.setContainsHeader(true);
+        csvReader.setColumnNames("h3", "h1");
+        assertParallel("h1,h2,h3\n1,2,3\n4,5,6\n");
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 200; i++) {
+            csvReader.setContainsHeader(random.nextBoolean());
+            csvReader.setSkipEmptyRows(random.nextBoolean());
+            csvReader.setLazyFields(random.nextBoolean());
+
+            assertParallel(RandomCsv.generate(random, 200));
+        }
+    }
+
+    private void assertParallel(final String data) throws IOException {
+        Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+
+        String expected;
+        try {
+            expected = toString(csvReader.read(new StringReader(data)));
+        } catch (final IOException e) {
+            expected = e.getMessage();
+        }
+
+        for (final int chunkSize : new int[] {1, 2, 3, 7, 100}) {
+            final ParallelCsvReader parallelCsvReader =
+                new ParallelCsvReader(csvReader, file, StandardCharsets.UTF_8, 4);
+
+            String actual;
+            try {
+                final List<CsvRow> rows = parallelCsvReader.read(chunkSize);
+                actual = toString(new CsvContainer(parallelCsvReader.getHeader(), rows));
+            } catch (final IOException e) {
+                actual = e.getMessage();
+            }
+
+            assertResult(expected, actual, "Chunk size " + chunkSize, data);
+            assertResult(expected, split(chunkSize), "Split size " + chunkSize, data);
+        }
+    }
+
+    private String split(final int chunkSize) throws IOException {
+        final ParallelCsvReader parallelCsvReader =
+            new ParallelCsvReader(csvReader, file, StandardCharsets.UTF_8, 2);
+
+        final List<CsvRow> rows = new ArrayList<>();
+        try {
+            for (final CsvParser csvParser : parallelCsvReader.split(chunkSize, 5)) {
+                try (final CsvParser p = csvParser) {
+                    readAll(p, rows);
+                }
+            }
+        } catch (final IOException e) {
+            return e.getMessage();
+        }
+        return toString(new CsvContainer(parallelCsvReader.getHeader(), rows));
+    }
+
+    private static void readAll(final CsvParser csvParser, final List<CsvRow> rows)
+        throws IOException {
+        CsvRow row;
+        while ((row = csvParser.nextRow()) != null) {
+            rows.add(row);
+        }
+    }
+
+    private static void assertResult(final String expected, final String actual,
+                                   final String message, final String data) {
+        if (!expected.equals(actual)) {
+            fail(message + " failed for data: " + data.replace("\r", "\\r")
+                .replace("\n", "\\n") + "\nexpected: " + expected + "\nactual:   " + actual);
+        }
+    }
+
+    private static String toString(final CsvContainer csv) {
+        final List<String> rows = new ArrayList<>();
+        for (final CsvRow row : csv.getRows()) {
+            rows.add(row.getOriginalLineNumber() + ":" + row.getFields());
+        }
+        return csv.getHeader() + " " + rows;
+    }
+
+    public void readPath() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            sb.append(i).append(",\"line\n").append(i).append("\"\n");
+        }
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final CsvContainer expected = csvReader.read(file, StandardCharsets.UTF_8);
+        csvReader.setParallelism(4);
+        final CsvContainer actual = csvReader.read(file, StandardCharsets.UTF_8);
+
+        assertEquals(actual.getRowCount(), 200000);
+        assertEquals(toString(actual), toString(expected));
+    }
+
+    public void splitPath() throws IOException {
+        final StringBuilder sb = new StringBuilder("h1,h2\n");
+        for (int i = 0; i < 300000; i++) {
+            sb.append(i).append(",\"line\n").append(i).append("\"\n");
+        }
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        csvReader.setContainsHeader(true);
+
+        final List<CsvParser> parsers = csvReader.split(file, StandardCharsets.UTF_8, 4);
+        assertEquals(parsers.size(), 4);
+
+        final List<CsvRow> rows = new ArrayList<>();
+        for (final CsvParser csvParser : parsers) {
+            try (final CsvParser p = csvParser) {
+                assertEquals(p.getHeader(), Arrays.asList("h1", "h2"));
+                readAll(p, rows);
+            }
+        }
+        assertEquals(toString(new CsvContainer(parsers.get(0).getHeader(), rows)),
+            toString(csvReader.read(file, StandardCharsets.UTF_8)));
+    }
+
+    public void splitUnsupported() throws IOException {
+        Files.write(file, "a,b\n".getBytes(StandardCharsets.UTF_16));
+        final List<CsvParser> parsers = csvReader.split(file, StandardCharsets.UTF_16, 4);
+        assertEquals(parsers.size(), 1);
+        try (final CsvParser csvParser = parsers.get(0)) {
+            assertEquals(csvParser.nextRow().getFields(), Arrays.asList("a", "b"));
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import org.testng.annotations.Test;
+
+@Test
+public class ParallelTasksTest {
+
+    public void daemonThreads() throws IOException {
+        try (final ParallelTasks tasks = new ParallelTasks(2)) {
+            assertTrue(ParallelTasks.get(tasks.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Thread.currentThread().isDaemon();
+                }
+            })));
+        }
+    }
+
+    public void originalException() {
+        final IOException exception = new IOException("broken");
+        try (final ParallelTasks tasks = new ParallelTasks(2)) {
+            ParallelTasks.get(tasks.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    throw exception;
+                }
+            }));
+            fail("IOException expected");
+        } catch (final IOException e) {
+            assertSame(e, exception);
+        }
+    }
+
+    public void uncheckedException() throws IOException {
+        try (final ParallelTasks tasks = new ParallelTasks(2)) {
+            ParallelTasks.get(tasks.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    throw new IllegalStateException("broken");
+                }
+            }));
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) {
+            assertEquals(e.getMessage(), "broken");
+        }
+    }
+
+}
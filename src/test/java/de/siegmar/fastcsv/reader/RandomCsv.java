@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator of random (and possibly malformed) CSV data for comparing different ways of
+ * reading the same data.
+ */
+final class RandomCsv {
+
+    private static final String[] TOKENS = {
+        "foo", "bar", "1", "2.5", " ", "12345678901234567890",
+        ",", ",", ",", "\n", "\n", "\r", "\r\n",
+        "\"", "\"\"", "\"a,\nb\"", "\"c\r\nd\"", "\"x\"y",
+        String.valueOf((char) 0xE4), String.valueOf(new char[] {0xE4, 0x20AC}),
+        String.valueOf(Character.toChars(0x1F600)),
+    };
+
+    private RandomCsv() {
+    }
+
+    /**
+     * Generates data of up to {@code maxTokens - 1} random tokens - field values, field
+     * separators, line breaks, quoted fields (with line breaks), stray quotes and non-ASCII
+     * characters.
+     *
+     * @param random the source of randomness
+     * @param maxTokens the exclusive upper bound of the number of tokens
+     * @return the generated data
+     */
+    static String generate(final Random random, final int maxTokens) {
+        return generate(random, maxTokens, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates data like {@link #generate(Random, int)}, but only of tokens that can be
+     * encoded by the given charset.
+     *
+     * @param random the source of randomness
+     * @param maxTokens the exclusive upper bound of the number of tokens
+     * @param charset the charset the data has to be encodable with
+     * @return the generated data
+     */
+    static String generate(final Random random, final int maxTokens, final Charset charset) {
+        final CharsetEncoder encoder = charset.newEncoder();
+        final List<String> tokens = new ArrayList<>();
+        for (final String token : TOKENS) {
+            if (encoder.canEncode(token)) {
+                tokens.add(token);
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        final int tokenCount = random.nextInt(maxTokens);
+        for (int i = 0; i < tokenCount; i++) {
+            sb.append(tokens.get(random.nextInt(tokens.size())));
+        }
+        return sb.toString();
+    }
+
+}
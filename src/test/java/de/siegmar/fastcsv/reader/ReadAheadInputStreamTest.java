@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class ReadAheadInputStreamTest {
+
+    private CsvReader csvReader;
+    private Path file;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        csvReader = new CsvReader();
+        csvReader.setDecompress(true);
+        file = Files.createTempFile("fastcsv", ".csv.gz");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.delete(file);
+    }
+
+    public void readAhead() throws IOException {
+        final byte[] data = new byte[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final InputStream in =
+                 ReadAheadInputStream.start(new ByteArrayInputStream(data), 1000, 3)) {
+            out.write(in.read());
+            final byte[] buf = new byte[777];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+            assertEquals(in.read(), -1);
+        }
+        assertEquals(out.toByteArray(), data);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void sourceFailure() throws IOException {
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() {
+                throw new IllegalStateException("broken source");
+            }
+        };
+
+        try (final InputStream in = ReadAheadInputStream.start(failing, 10, 2)) {
+            in.read();
+        }
+    }
+
+    public void gzip() throws IOException {
+        final String data = data();
+        writeCompressed(data);
+        csvReader.setContainsHeader(true);
+
+        assertEquals(csvReader.read(file, StandardCharsets.UTF_8).getRows().toString(),
+            csvReader.read(new StringReader(data)).getRows().toString());
+    }
+
+    public void gzipCheckpoint() throws IOException {
+        writeCompressed(data());
+        csvReader.setContainsHeader(true);
+        assertResume(file);
+    }
+
+    public void readAheadFile() throws IOException {
+        final Path plain = Files.createTempFile("fastcsv", ".csv");
+        try {
+            final String data = data();
+            Files.write(plain, data.getBytes(StandardCharsets.UTF_8));
+            csvReader.setDecompress(false);
+            csvReader.setContainsHeader(true);
+            csvReader.setReadAhead(3);
+            csvReader.setReadAheadBufferSize(1000);
+
+            assertEquals(csvReader.read(plain, StandardCharsets.UTF_8).getRows().toString(),
+                csvReader.read(new StringReader(data)).getRows().toString());
+            assertResume(plain);
+        } finally {
+            Files.delete(plain);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidReadAhead() {
+        csvReader.setReadAhead(-1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidReadAheadBufferSize() {
+        csvReader.setReadAheadBufferSize(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void followGzip() throws IOException {
+        writeCompressed("a\n");
+        csvReader.follow(file, StandardCharsets.UTF_8);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void createRowIndexGzip() throws IOException {
+        writeCompressed(data());
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 100);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parseFromRowGzip() throws IOException {
+        writeCompressed(data());
+        csvReader.parseFromRow(file, StandardCharsets.UTF_8, 5);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parseFromLineGzip() throws IOException {
+        writeCompressed(data());
+        csvReader.parseFromLine(file, StandardCharsets.UTF_8, 6);
+    }
+
+    public void gzipNotEnabled() throws IOException {
+        writeCompressed("a\n");
+        csvReader.setDecompress(false);
+        csvReader.setParallelism(2);
+        final byte[] compressed = Files.readAllBytes(file);
+        assertEquals(csvReader.read(file, StandardCharsets.ISO_8859_1).getRow(0).getField(0)
+            .charAt(0), (char) (compressed[0] & 0xFF));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void invalidGzip() throws IOException {
+        Files.write(file, "a,b\n".getBytes(StandardCharsets.UTF_8));
+        csvReader.read(file, StandardCharsets.UTF_8);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void truncatedGzip() throws IOException {
+        writeCompressed(data());
+        final byte[] compressed = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(compressed, compressed.length / 2));
+        csvReader.read(file, StandardCharsets.UTF_8);
+    }
+
+    public void close() throws Exception {
+        final CountDownLatch closed = new CountDownLatch(1);
+        final InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        final InputStream in = ReadAheadInputStream.start(endless, 10, 2);
+        assertEquals(in.read(), 'a');
+        in.close();
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    private void assertResume(final Path path) throws IOException {
+        final CsvCheckpoint checkpoint;
+        try (final CsvParser csvParser = csvReader.parse(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 12_345; i++) {
+                csvParser.nextRow();
+            }
+            checkpoint = csvParser.getCheckpoint();
+        }
+
+        try (final CsvParser csvParser =
+                 csvReader.parse(path, StandardCharsets.UTF_8, checkpoint)) {
+            assertEquals(csvParser.nextRow().getField("id"), "12345");
+        }
+    }
+
+    private static String data() {
+        final StringBuilder sb = new StringBuilder("id,text\n");
+        for (int i = 0; i < 20_000; i++) {
+            sb.append(i).append(",\"line ").append(i).append("\n\"\n");
+        }
+        return sb.toString();
+    }
+
+    private void writeCompressed(final String data) throws IOException {
+        try (final OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+}
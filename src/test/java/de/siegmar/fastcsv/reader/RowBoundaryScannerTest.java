@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+@Test
+public class RowBoundaryScannerTest {
+
+    private final RowBoundaryScanner scanner = new RowBoundaryScanner(',', '"');
+
+    public void transitions() throws IOException {
+        final int[] states = initialStates();
+        assertEquals(scanner.transitions(stream("a,\"b\r\n"), states, -1), 1);
+        assertEquals(states[RowBoundaryScanner.ROW_START], RowBoundaryScanner.QUOTED);
+        assertEquals(states[RowBoundaryScanner.QUOTED], RowBoundaryScanner.ROW_START);
+    }
+
+    public void transitionsAfterCarriageReturn() throws IOException {
+        final int[] states = initialStates();
+        assertEquals(scanner.transitions(stream("\nfoo\r\n"), states, '\r'), 1);
+        assertEquals(states[RowBoundaryScanner.ROW_START], RowBoundaryScanner.ROW_START);
+    }
+
+    public void nonStructuralHighBytes() throws IOException {
+        // same low 7 bits as the structural characters
+        final byte[] data = new byte[20];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (0x80 | ",\"\r\n".charAt(i % 4));
+        }
+
+        final int[] states = initialStates();
+        assertEquals(scanner.transitions(new ByteArrayInputStream(data), states, -1), 0);
+        assertEquals(states[RowBoundaryScanner.ROW_START], RowBoundaryScanner.UNQUOTED);
+
+        assertNull(scanner.findBoundary(new ByteArrayInputStream(data), 0,
+            RowBoundaryScanner.UNQUOTED, -1, 0));
+    }
+
+    public void findBoundary() throws IOException {
+        final RowBoundaryScanner.Boundary boundary = scanner.findBoundary(
+            stream("\"a\nb\"\ncdefghijklmn"), 0, RowBoundaryScanner.ROW_START, -1, 1);
+        assertEquals(boundary.getPosition(), 6);
+        assertEquals(boundary.getLineBreaks(), 2);
+    }
+
+    public void findBoundaryWithinRegularData() throws IOException {
+        final RowBoundaryScanner.Boundary boundary = scanner.findBoundary(
+            stream("foo\rbar"), 10, RowBoundaryScanner.UNQUOTED, -1, 0);
+        assertEquals(boundary.getPosition(), 14);
+        assertEquals(boundary.getLineBreaks(), 1);
+    }
+
+    public void findBoundaryAtEnd() throws IOException {
+        final RowBoundaryScanner.Boundary boundary = scanner.findBoundary(
+            stream("foo\r"), 0, RowBoundaryScanner.UNQUOTED, -1, 1);
+        assertEquals(boundary.getPosition(), 4);
+        assertNull(scanner.findBoundary(stream("foo\r\n"), 0,
+            RowBoundaryScanner.QUOTED, -1, 0));
+    }
+
+    private static int[] initialStates() {
+        final int[] states = new int[RowBoundaryScanner.STATE_COUNT];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = i;
+        }
+        return states;
+    }
+
+    private static ByteArrayInputStream stream(final String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII));
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class RowFilterTest {
+
+    private static final String DATA = "id,status,code,amount\n"
+        + "1,ACTIVE,DE-1,100\n"
+        + "2,INACTIVE,DE-2,200.5\n"
+        + "3,ACTIVE,AT-3,abc\n"
+        + "4,ACTIVE,DE-4,\n"
+        + "5,ACTIVE\n"
+        + "6,\"ACTIVE\",\"DE-\"\"6\",1e3\n";
+
+    private CsvReader csvReader;
+
+    @BeforeMethod
+    public void init() {
+        csvReader = new CsvReader();
+        csvReader.setContainsHeader(true);
+    }
+
+    public void equalTo() throws IOException {
+        assertEquals(ids(RowFilter.equalTo("status", "ACTIVE")), "[1, 3, 4, 5, 6]");
+        assertEquals(ids(RowFilter.equalTo(1, "ACTIV")), "[]");
+    }
+
+    public void startsWith() throws IOException {
+        assertEquals(ids(RowFilter.startsWith(2, "DE-")), "[1, 2, 4, 6]");
+        assertEquals(ids(RowFilter.startsWith("code", "DE-\"")), "[6]");
+    }
+
+    public void between() throws IOException {
+        assertEquals(ids(RowFilter.between("amount", 100, 200.5)), "[1, 2]");
+        assertEquals(ids(RowFilter.between(3, 150, 1000)), "[2, 6]");
+    }
+
+    public void betweenNotations() throws IOException {
+        try (final CsvParser csvParser = csvReader.parse(new StringReader(
+            "v\n150\n 150 \n0x1p7\n150.000000000000000001\n+Infinity\n1e2x\nx150\n-\n.\n"))) {
+            csvParser.setRowFilter(RowFilter.between("v", 100, 200));
+            final List<String> values = new ArrayList<>();
+            for (CsvRow row = csvParser.nextRow(); row != null; row = csvParser.nextRow()) {
+                values.add(row.getField(0));
+            }
+            assertEquals(values.toString(), "[150,  150 , 0x1p7, 150.000000000000000001]");
+        }
+        assertEquals(ids(RowFilter.between("amount", Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY)), "[1, 2, 6]");
+    }
+
+    public void combined() throws IOException {
+        final RowFilter active = RowFilter.equalTo("status", "ACTIVE");
+        final RowFilter german = RowFilter.startsWith("code", "DE-");
+        assertEquals(ids(active.and(german)), "[1, 4, 6]");
+        assertEquals(ids(active.and(german.negate())), "[3, 5]");
+        assertEquals(ids(german.negate().or(RowFilter.equalTo("id", "1"))), "[1, 3, 5]");
+    }
+
+    public void reusedRows() throws IOException {
+        csvReader.setReuseRows(true);
+        assertEquals(ids(RowFilter.equalTo("status", "INACTIVE")), "[2]");
+    }
+
+    public void reusedRowsFilterSetLater() throws IOException {
+        csvReader.setContainsHeader(false);
+        csvReader.setReuseRows(true);
+        try (final CsvParser csvParser = csvReader.parse(new StringReader("a,1\nb,2\nc,3\n"))) {
+            assertEquals(csvParser.nextRow().getFields().toString(), "[a, 1]");
+            csvParser.setRowFilter(RowFilter.equalTo(0, "c"));
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.toString(), "CsvRow{originalLineNumber=3, fields=[c, 3]}");
+        }
+    }
+
+    public void lazyFields() throws IOException {
+        csvReader.setLazyFields(true);
+        assertEquals(ids(RowFilter.equalTo("status", "INACTIVE")), "[2]");
+    }
+
+    public void selectedColumns() throws IOException {
+        csvReader.setColumnIndexes(0, 2);
+        assertEquals(ids(RowFilter.startsWith(2, "AT")), "[3]");
+        assertEquals(ids(RowFilter.startsWith("code", "AT")), "[3]");
+    }
+
+    public void withoutHeader() throws IOException {
+        csvReader.setContainsHeader(false);
+        try (final CsvParser csvParser = csvReader.parse(new StringReader("a,1\nb,2\n"))) {
+            csvParser.setRowFilter(RowFilter.equalTo(1, "2"));
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.getOriginalLineNumber(), 2);
+            assertEquals(row.getFields().toString(), "[b, 2]");
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class,
+        expectedExceptionsMessageRegExp = "Header does not contain column: foo")
+    public void unknownColumn() throws IOException {
+        ids(RowFilter.equalTo("foo", "bar"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void unselectedColumn() throws IOException {
+        csvReader.setColumnIndexes(0, 2);
+        ids(RowFilter.equalTo(1, "ACTIVE"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidColumn() {
+        RowFilter.equalTo(-1, "ACTIVE");
+    }
+
+    private String ids(final RowFilter filter) throws IOException {
+        final List<String> ids = new ArrayList<>();
+        try (final CsvParser csvParser = csvReader.parse(new StringReader(DATA))) {
+            csvParser.setRowFilter(filter);
+            for (CsvRow row = csvParser.nextRow(); row != null; row = csvParser.nextRow()) {
+                ids.add(row.getField("id"));
+            }
+        }
+        return ids.toString();
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class RowIndexTest {
+
+    private CsvReader csvReader;
+    private Path file;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        csvReader = new CsvReader();
+        file = Files.createTempFile("fastcsv", ".csv");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(RowIndex.indexPathOf(file));
+        Files.delete(file);
+    }
+
+    public void simple() throws IOException {
+        csvReader.setContainsHeader(true);
+        write("h1,h2\n1,a\n2,b\n\n3,\"c\nc\"\n4,d\n");
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 2);
+        assertTrue(Files.exists(RowIndex.indexPathOf(file)));
+
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8, 3)) {
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.getField("h1"), "4");
+            assertEquals(row.getOriginalLineNumber(), 7);
+            assertNull(csvParser.nextRow());
+        }
+
+        try (final CsvParser csvParser = csvReader.parseFromLine(file, StandardCharsets.UTF_8,
+            5)) {
+            final CsvRow row = csvParser.nextRow();
+            assertEquals(row.getField("h2"), "c\nc");
+            assertEquals(row.getOriginalLineNumber(), 5);
+        }
+    }
+
+    public void outdatedIndex() throws IOException {
+        write("1\n2\n3\n");
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 1);
+        write("x\n1\n2\n3\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        assertNull(RowIndex.load(file, "UTF-8"));
+
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8, 2)) {
+            assertEquals(csvParser.nextRow().getField(0), "2");
+        }
+    }
+
+    public void differentSettings() throws IOException {
+        write("1;2\n3;4\n");
+        csvReader.createRowIndex(file, StandardCharsets.UTF_8, 1);
+        csvReader.setFieldSeparator(';');
+        try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8, 1)) {
+            assertEquals(csvParser.nextRow().getField(1), "4");
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unsupportedCharset() throws IOException {
+        csvReader.createRowIndex(file, StandardCharsets.UTF_16, 1);
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 100; i++) {
+            csvReader.setContainsHeader(random.nextBoolean());
+            csvReader.setSkipEmptyRows(random.nextBoolean());
+            csvReader.setErrorOnDifferentFieldCount(false);
+            csvReader.setMemoryMapped(random.nextBoolean());
+
+            final String data = RandomCsv.generate(random, 100);
+            write(data);
+
+            final boolean indexed = random.nextBoolean();
+            if (indexed) {
+                csvReader.createRowIndex(file, StandardCharsets.UTF_8, random.nextInt(4) + 1);
+            } else {
+                Files.deleteIfExists(RowIndex.indexPathOf(file));
+            }
+
+            assertSeek(data);
+        }
+    }
+
+    private void assertSeek(final String data) throws IOException {
+        final List<CsvRow> rows = csvReader.read(file, StandardCharsets.UTF_8).getRows();
+
+        for (int row = 0; row <= rows.size(); row++) {
+            try (final CsvParser csvParser = csvReader.parseFromRow(file, StandardCharsets.UTF_8,
+                row)) {
+                assertRows(csvParser, rows, row, data);
+            }
+        }
+
+        final long lastLine = rows.isEmpty() ? 1 : rows.get(rows.size() - 1)
+            .getOriginalLineNumber() + 1;
+        for (long line = 1; line <= lastLine; line++) {
+            int expectedRow = 0;
+            while (expectedRow < rows.size()
+                && rows.get(expectedRow).getOriginalLineNumber() < line) {
+                expectedRow++;
+            }
+            try (final CsvParser csvParser = csvReader.parseFromLine(file,
+                StandardCharsets.UTF_8, line)) {
+                assertRows(csvParser, rows, expectedRow, data);
+            }
+        }
+    }
+
+    private static void assertRows(final CsvParser csvParser, final List<CsvRow> rows,
+                                   final int firstRow, final String data) throws IOException {
+        final String msg = data.replace("\r", "\\r").replace("\n", "\\n") + " from row "
+            + firstRow;
+        for (int row = firstRow; row < rows.size(); row++) {
+            final CsvRow actual = csvParser.nextRow();
+            assertNotNull(actual, msg);
+            assertEquals(actual.toString(), rows.get(row).toString(), msg);
+        }
+        assertFalse(csvParser.nextRow() != null, msg);
+    }
+
+    private void write(final String data) throws IOException {
+        Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+@Test
+public class StringCacheTest {
+
+    private static final char[] BUF = "xfoobarfoo".toCharArray();
+
+    public void deduplicate() {
+        final StringCache cache = new StringCache(16);
+        final String foo = cache.get(BUF, 1, 3);
+        assertEquals(foo, "foo");
+        assertSame(cache.get(BUF, 7, 3), foo);
+        assertEquals(cache.get(BUF, 4, 3), "bar");
+        assertEquals(cache.get(BUF, 1, 0), "");
+    }
+
+    public void evict() {
+        final StringCache cache = new StringCache(1);
+        final String foo = cache.get(BUF, 1, 3);
+        assertEquals(cache.get(BUF, 4, 3), "bar");
+        final String foo2 = cache.get(BUF, 7, 3);
+        assertEquals(foo2, "foo");
+        assertNotSame(foo2, foo);
+    }
+
+    public void collision() {
+        // "Aa" and "BB" have the same hash code
+        final StringCache cache = new StringCache(1);
+        final char[] buf = "AaBB".toCharArray();
+        assertEquals(cache.get(buf, 0, 2), "Aa");
+        assertEquals(cache.get(buf, 2, 2), "BB");
+        assertEquals(cache.get(buf, 0, 2), "Aa");
+    }
+
+    public void sameSlot() {
+        // "Aa" and "BB" have the same hash code - thus the same slot
+        final StringCache cache = new StringCache(1024);
+        final char[] buf = "AaBB".toCharArray();
+        final String aa = cache.get(buf, 0, 2);
+        final String bb = cache.get(buf, 2, 2);
+        assertSame(cache.get(buf, 0, 2), aa);
+        assertSame(cache.get(buf, 2, 2), bb);
+    }
+
+    public void exactSize() {
+        // slots: c = 0, a = 1, b = 2, d = 1
+        final StringCache cache = new StringCache(3);
+        final char[] buf = "abcd".toCharArray();
+        final String a = cache.get(buf, 0, 1);
+        final String b = cache.get(buf, 1, 1);
+        final String c = cache.get(buf, 2, 1);
+        assertSame(cache.get(buf, 1, 1), b);
+        assertSame(cache.get(buf, 2, 1), c);
+        assertSame(cache.get(buf, 0, 1), a);
+
+        // d moves a and b one slot further and drops c at the end of its window
+        assertEquals(cache.get(buf, 3, 1), "d");
+        assertSame(cache.get(buf, 0, 1), a);
+        assertSame(cache.get(buf, 1, 1), b);
+        assertNotSame(cache.get(buf, 2, 1), c);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidSize() {
+        new StringCache(0);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.siegmar.fastcsv.reader;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+@Test
+public class StructuralIndexTest {
+
+    public void index() {
+        final StructuralIndex index = new StructuralIndex(',', '"', 16);
+        // a non-ASCII character with the same low byte as the field separator
+        final char[] buf = ("a,\"b\"\r\n,c" + (char) 0x12C).toCharArray();
+        index.build(buf, buf.length, 100);
+        assertEquals(index.getCount(), 6);
+        assertEquals(Arrays.copyOf(index.getPositions(), index.getCount()),
+            new int[] {1, 2, 4, 5, 6, 7});
+        assertEquals(index.seek(3), 2);
+        index.consume(4);
+        assertEquals(index.seek(0), 5);
+        assertEquals(index.covers(100, buf.length), true);
+        assertEquals(index.covers(0, buf.length), false);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unsupported() {
+        new StructuralIndex((char) 0xA7, '"', 16);
+    }
+
+    public void fields() throws IOException {
+        final String data = "a,b,,c\r\n\r\n\"d\nd\",e\n,\nf";
+        assertEquals(read(data, true, false, null), read(data, false, false, null));
+        assertEquals(read(data, true, false, null),
+            "[0:1:[a, b, , c], 8:2:[], 10:3:[d\nd, e], 18:5:[, ], 20:6:[f], "
+                + "CsvCheckpoint{offset=21, byteOffset=-1, lineNumber=6}]");
+    }
+
+    public void random() throws IOException {
+        final Random random = new Random(4711);
+        for (int i = 0; i < 300; i++) {
+            final String data = RandomCsv.generate(random, i < 290 ? 100 : 20_000);
+            final boolean skipEmptyRows = random.nextBoolean();
+            final int[] columns = random.nextBoolean() ? new int[] {0, 2} : null;
+
+            assertEquals(read(data, true, skipEmptyRows, columns),
+                read(data, false, skipEmptyRows, columns), data);
+        }
+    }
+
+    public void unsupportedSeparator() throws IOException {
+        final CsvReader csvReader = new CsvReader();
+        csvReader.setStructuralIndexing(true);
+        csvReader.setFieldSeparator((char) 0xA7);
+        assertEquals(csvReader.read(new StringReader("a" + (char) 0xA7 + "b\nc")).getRows()
+                .toString(),
+            "[CsvRow{originalLineNumber=1, fields=[a, b]}, "
+                + "CsvRow{originalLineNumber=2, fields=[c]}]");
+    }
+
+    private static String read(final String data, final boolean structuralIndexing,
+                               final boolean skipEmptyRows, final int[] columns)
+        throws IOException {
+
+        final CsvReader csvReader = new CsvReader();
+        csvReader.setStructuralIndexing(structuralIndexing);
+        csvReader.setSkipEmptyRows(skipEmptyRows);
+        if (columns != null) {
+            csvReader.setColumnIndexes(columns);
+        }
+
+        final List<String> rows = new ArrayList<>();
+        try (final CsvParser csvParser = csvReader.parse(new StringReader(data))) {
+            CsvRow row;
+            while ((row = csvParser.nextRow()) != null) {
+                rows.add(row.getStartingOffset() + ":" + row.getOriginalLineNumber() + ":"
+                    + row.getFields());
+            }
+            rows.add(csvParser.getCheckpoint().toString());
+        }
+        return rows.toString();
+    }
+
+}